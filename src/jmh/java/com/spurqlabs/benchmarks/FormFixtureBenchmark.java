@@ -0,0 +1,68 @@
+package com.spurqlabs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.spurqlabs.pages.AddEmployeePage;
+import com.spurqlabs.pages.LoginPage;
+import com.spurqlabs.utils.PlaywrightDriver;
+
+/**
+ * End-to-end page-object overhead against local static fixtures of the login and
+ * add-employee forms, so the numbers exclude network and application latency
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormFixtureBenchmark {
+    private String loginUrl;
+    private String addEmployeeUrl;
+    private LoginPage loginPage;
+    private AddEmployeePage addEmployeePage;
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        System.setProperty("headless", "true");
+        PlaywrightDriver.initDriver();
+        loginUrl = getClass().getResource("/fixtures/login.html").toString();
+        addEmployeeUrl = getClass().getResource("/fixtures/add-employee.html").toString();
+        loginPage = new LoginPage();
+        addEmployeePage = new AddEmployeePage();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBrowser() {
+        PlaywrightDriver.quitDriver();
+        PlaywrightDriver.closeAll();
+    }
+
+    @Benchmark
+    public boolean loginForm() {
+        loginPage.navigateToLoginPage(loginUrl);
+        loginPage.login("Admin", "admin123");
+        return loginPage.isDashboardDisplayed();
+    }
+
+    @Benchmark
+    public boolean addEmployeeForm() {
+        PlaywrightDriver.navigateTo(addEmployeeUrl);
+        addEmployeePage.fillEmployeeDetails("John", "Michael", "Doe", "EMP-12345");
+        addEmployeePage.clickSave();
+        return addEmployeePage.isSuccessMessageDisplayed();
+    }
+}
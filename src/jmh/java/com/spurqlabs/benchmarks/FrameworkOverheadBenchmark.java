@@ -0,0 +1,77 @@
+package com.spurqlabs.benchmarks;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.spurqlabs.models.Employee;
+import com.spurqlabs.utils.ConfigReader;
+import com.spurqlabs.utils.TestDataReader;
+
+/**
+ * Browser-free hot paths: configuration lookups, test data access and locator building
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameworkOverheadBenchmark {
+    private final String firstName = "John";
+    private final String lastName = "Doe";
+
+    @Benchmark
+    public int configTimeout() {
+        return ConfigReader.getTimeout();
+    }
+
+    @Benchmark
+    public String configBaseUrl() {
+        return ConfigReader.getBaseUrl();
+    }
+
+    @Benchmark
+    public boolean configNestedSection() {
+        return ConfigReader.isSessionCacheEnabled();
+    }
+
+    @Benchmark
+    public Employee testDataCached() {
+        return TestDataReader.getEmployeeData("newEmployee");
+    }
+
+    /**
+     * Baseline: what every test data lookup cost before the parsed-once cache
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonObject testDataParsedFromDisk() throws IOException {
+        try (Reader reader = new FileReader("src/test/resources/data/employeeData.json")) {
+            return new Gson().fromJson(reader, JsonObject.class).getAsJsonObject("newEmployee");
+        }
+    }
+
+    @Benchmark
+    public String locatorStringFormat() {
+        return String.format(".oxd-table-body .oxd-table-row:has-text('%s %s')", firstName, lastName);
+    }
+
+    @Benchmark
+    public String locatorConcatenation() {
+        return ".oxd-table-body .oxd-table-row:has-text('" + firstName + " " + lastName + "')";
+    }
+}
@@ -0,0 +1,54 @@
+package com.spurqlabs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.spurqlabs.steps.AddEmployeeSteps;
+import com.spurqlabs.steps.LoginSteps;
+import com.spurqlabs.utils.PlaywrightDriver;
+
+/**
+ * Cost of constructing the Cucumber glue for one scenario, with the browser already running
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlueConstructionBenchmark {
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        System.setProperty("headless", "true");
+        PlaywrightDriver.initDriver();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBrowser() {
+        PlaywrightDriver.quitDriver();
+        PlaywrightDriver.closeAll();
+    }
+
+    @Benchmark
+    public AddEmployeeSteps addEmployeeSteps() {
+        return new AddEmployeeSteps();
+    }
+
+    @Benchmark
+    public LoginSteps loginSteps() {
+        return new LoginSteps();
+    }
+}
@@ -0,0 +1,7 @@
+package com.spurqlabs.models;
+
+/**
+ * Employee entry from employeeData.json; employeeId "AUTO" keeps the generated ID
+ */
+public record Employee(String firstName, String middleName, String lastName, String employeeId) {
+}
@@ -0,0 +1,14 @@
+package com.spurqlabs.models;
+
+/**
+ * Employee as returned by the PIM REST API, identified by its internal empNumber
+ */
+public record EmployeeRecord(int empNumber, String firstName, String middleName, String lastName, String employeeId) {
+
+    /**
+     * Full name as shown in the employee list
+     */
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,7 @@
+package com.spurqlabs.models;
+
+/**
+ * Login credentials entry from loginData.json
+ */
+public record LoginCredentials(String username, String password) {
+}
@@ -0,0 +1,53 @@
+package com.spurqlabs.models;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page state captured in a single in-page evaluation: URL, visible toast messages,
+ * field validation errors keyed by input name (or label) and the text of each table row
+ */
+public record PageSnapshot(String url, List<String> toasts, Map<String, String> fieldErrors, List<String> tableRows) {
+
+    /**
+     * Check if the URL contains the path fragment
+     */
+    public boolean isOn(String pathFragment) {
+        return url.contains(pathFragment);
+    }
+
+    /**
+     * Check if any toast contains the text
+     */
+    public boolean hasToast(String text) {
+        return toasts.stream().anyMatch(toast -> toast.contains(text));
+    }
+
+    /**
+     * Check if any field shows a validation error
+     */
+    public boolean hasFieldErrors() {
+        return !fieldErrors.isEmpty();
+    }
+
+    /**
+     * Get the validation error of a field, or null when the field is valid
+     */
+    public String errorFor(String field) {
+        return fieldErrors.get(field);
+    }
+
+    /**
+     * Get the first validation error in page order, or null when there is none
+     */
+    public String firstError() {
+        return fieldErrors.values().stream().findFirst().orElse(null);
+    }
+
+    /**
+     * Check if any table row contains the text
+     */
+    public boolean hasRow(String text) {
+        return tableRows.stream().anyMatch(row -> row.contains(text));
+    }
+}
@@ -1,16 +1,33 @@
 package com.spurqlabs.pages;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.TimeoutError;
+import com.spurqlabs.models.EmployeeRecord;
+import com.spurqlabs.models.PageSnapshot;
 import com.spurqlabs.utils.ConfigReader;
+import com.spurqlabs.utils.EmployeeApiClient;
+import com.spurqlabs.utils.PerformanceProbe;
 import com.spurqlabs.utils.PlaywrightDriver;
+import com.spurqlabs.utils.RetryPolicy;
+import com.spurqlabs.utils.TimingRegistry;
+import com.spurqlabs.utils.WaitUtils;
 
 /**
  * Page Object Model for OrangeHRM Add Employee Page
  * Follows .automation.instructions.md: prefer role/aria selectors over CSS/XPath
  */
 public class AddEmployeePage {
-    private final Page page;
-
     // Locators using role and aria attributes (preferred)
     private static final String FIRST_NAME_INPUT = "input[name='firstName']";
     private static final String MIDDLE_NAME_INPUT = "input[name='middleName']";
@@ -23,89 +40,158 @@ public class AddEmployeePage {
     private static final String PIM_MENU = "a:has-text('PIM')";
     private static final String ADD_BUTTON = "button:has-text('Add')";
     private static final String EMPLOYEE_LIST_HEADER = "h5:has-text('Employee Information')";
+    private static final String TABLE_ROWS = ".oxd-table-body .oxd-table-row";
+    // Employee Name and Supervisor Name are both "Type for hints..." autocompletes, so match by label
+    private static final String SEARCH_NAME_INPUT = "//label[text()='Employee Name']/parent::div/following-sibling::div//input";
+    private static final String SEARCH_BUTTON = "button[type='submit']:has-text('Search')";
+    private static final String EMPLOYEE_LIST_API = "/api/v2/pim/employees";
+    private static final int TOAST_TIMEOUT_MS = 2000;
+    private static final Gson gson = new Gson();
+
+    // Form fields by data key; values are set in one evaluation through FILL_FORM_SCRIPT
+    private static final Map<String, String> FORM_FIELDS = Map.of(
+            "firstName", FIRST_NAME_INPUT,
+            "middleName", MIDDLE_NAME_INPUT,
+            "lastName", LAST_NAME_INPUT,
+            "employeeId", EMPLOYEE_ID_XPATH);
+
+    // Sets values through the native setter and fires input/change so the app's bindings see them
+    private static final String FILL_FORM_SCRIPT = """
+            fields => {
+                const setValue = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;
+                const missing = [];
+                for (const [selector, value] of fields) {
+                    const input = selector.startsWith('//')
+                        ? document.evaluate(selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue
+                        : document.querySelector(selector);
+                    if (!input) {
+                        missing.push(selector);
+                        continue;
+                    }
+                    input.focus();
+                    setValue.call(input, value);
+                    input.dispatchEvent(new Event('input', { bubbles: true }));
+                    input.dispatchEvent(new Event('change', { bubbles: true }));
+                    input.blur();
+                }
+                return missing;
+            }
+            """;
 
-    public AddEmployeePage() {
-        this.page = PlaywrightDriver.getPage();
+    // Collects URL, toasts, field errors and table rows; returned as JSON for Gson
+    private static final String SNAPSHOT_SCRIPT = """
+            ([toastSelector, errorSelector, rowSelector]) => {
+                const text = element => element.textContent.replace(/\\s+/g, ' ').trim();
+                const fieldErrors = {};
+                document.querySelectorAll(errorSelector).forEach((error, index) => {
+                    const group = error.closest('.oxd-input-group, .field');
+                    const input = group && group.querySelector('input');
+                    const label = group && group.querySelector('label');
+                    const field = (input && input.name) || (label && text(label)) || 'field' + index;
+                    fieldErrors[field] = text(error);
+                });
+                return JSON.stringify({
+                    url: location.href,
+                    toasts: [...document.querySelectorAll(toastSelector)].map(text),
+                    fieldErrors,
+                    tableRows: [...document.querySelectorAll(rowSelector)].map(text)
+                });
+            }
+            """;
+
+    /**
+     * Current page of the scenario; looked up on every call because restoring a cached session
+     * replaces the context and its page
+     */
+    private Page page() {
+        return PlaywrightDriver.getPage();
     }
 
     /**
-     * Navigate to PIM module
+     * Navigate to PIM module and wait for the employee list API to answer; retried on timeout
      */
     public void navigateToPIM() {
-        page.locator(PIM_MENU).click();
-        page.waitForLoadState();
-        // Wait for either Employee Information heading or page URL to contain 'viewEmployeeList'
-        try {
-            page.waitForURL("**/pim/viewEmployeeList", new Page.WaitForURLOptions()
-                    .setTimeout(ConfigReader.getTimeout()));
-        } catch (Exception e) {
-            // Fallback: wait for page to be stable
-            page.waitForTimeout(2000);
-        }
+        TimingRegistry.time("AddEmployeePage.navigateToPIM", () ->
+                RetryPolicy.idempotentRun("AddEmployeePage.navigateToPIM", timeoutMs -> {
+                    WaitUtils.waitForResponse(page(), EMPLOYEE_LIST_API,
+                            () -> page().locator(PIM_MENU).click(new Locator.ClickOptions().setTimeout(timeoutMs)), timeoutMs);
+                    WaitUtils.waitForUrl(page(), "**/pim/viewEmployeeList", timeoutMs);
+                }));
+    }
+
+    /**
+     * Open the Add Employee form directly by URL
+     */
+    public void navigateToAddEmployee() {
+        page().navigate(ConfigReader.getBaseUrl() + "/web/index.php/pim/addEmployee");
+        WaitUtils.waitForUrl(page(), "**/pim/addEmployee");
     }
 
     /**
      * Click Add button to open Add Employee form
      */
     public void clickAddButton() {
-        page.locator(ADD_BUTTON).first().click();
-        page.waitForURL("**/pim/addEmployee");
+        TimingRegistry.time("AddEmployeePage.clickAddButton", () -> {
+            page().locator(ADD_BUTTON).first().click();
+            page().waitForURL("**/pim/addEmployee");
+        });
     }
 
     /**
      * Enter First Name
      */
     public void enterFirstName(String firstName) {
-        page.locator(FIRST_NAME_INPUT).fill(firstName);
+        page().locator(FIRST_NAME_INPUT).fill(firstName);
     }
 
     /**
      * Enter Middle Name
      */
     public void enterMiddleName(String middleName) {
-        page.locator(MIDDLE_NAME_INPUT).fill(middleName);
+        page().locator(MIDDLE_NAME_INPUT).fill(middleName);
     }
 
     /**
      * Enter Last Name
      */
     public void enterLastName(String lastName) {
-        page.locator(LAST_NAME_INPUT).fill(lastName);
+        page().locator(LAST_NAME_INPUT).fill(lastName);
     }
 
     /**
      * Get auto-generated Employee ID
      */
     public String getEmployeeId() {
-        return page.locator(EMPLOYEE_ID_XPATH).inputValue();
+        return page().locator(EMPLOYEE_ID_XPATH).inputValue();
     }
 
     /**
      * Clear Employee ID field
      */
     public void clearEmployeeId() {
-        page.locator(EMPLOYEE_ID_XPATH).fill("");
+        page().locator(EMPLOYEE_ID_XPATH).fill("");
     }
 
     /**
      * Enter custom Employee ID
      */
     public void enterEmployeeId(String employeeId) {
-        page.locator(EMPLOYEE_ID_XPATH).fill(employeeId);
+        page().locator(EMPLOYEE_ID_XPATH).fill(employeeId);
     }
 
     /**
-     * Click Save button
+     * Click Save button; never retried since a second click could create a duplicate employee
      */
     public void clickSave() {
-        page.locator(SAVE_BUTTON).click();
+        TimingRegistry.time("AddEmployeePage.clickSave", () ->
+                RetryPolicy.nonIdempotent("AddEmployeePage.clickSave", () -> page().locator(SAVE_BUTTON).click()));
     }
 
     /**
      * Click Cancel button
      */
     public void clickCancel() {
-        page.locator(CANCEL_BUTTON).click();
+        page().locator(CANCEL_BUTTON).click();
     }
 
     /**
@@ -113,18 +199,21 @@ public class AddEmployeePage {
      */
     public boolean isSuccessMessageDisplayed() {
         try {
-            // Wait for page to navigate after save
-            page.waitForLoadState();
-            page.waitForTimeout(1000);
-            
-            // Success toast appears briefly
-            page.waitForSelector(SUCCESS_MESSAGE, new Page.WaitForSelectorOptions()
-                    .setTimeout(5000));
-            return page.locator(SUCCESS_MESSAGE).isVisible();
+            return RetryPolicy.idempotent("AddEmployeePage.isSuccessMessageDisplayed", timeoutMs -> {
+                try {
+                    // Success toast appears briefly after the save request completes
+                    WaitUtils.waitForToast(page(), SUCCESS_MESSAGE, (int) Math.min(TOAST_TIMEOUT_MS, timeoutMs));
+                    return true;
+                } catch (TimeoutError e) {
+                    // Fallback: a missed toast still counts once we are on the personal details page
+                    if (page().url().contains("/pim/viewPersonalDetails")) {
+                        return true;
+                    }
+                    throw e;
+                }
+            });
         } catch (Exception e) {
-            // Fallback: check if we navigated to personal details page
-            String currentUrl = page.url();
-            return currentUrl.contains("/pim/viewPersonalDetails");
+            return false;
         }
     }
 
@@ -132,21 +221,21 @@ public class AddEmployeePage {
      * Get success message text
      */
     public String getSuccessMessage() {
-        return page.locator(SUCCESS_MESSAGE).textContent();
+        return page().locator(SUCCESS_MESSAGE).textContent();
     }
 
     /**
      * Check if error message is displayed for a field
      */
     public boolean isErrorMessageDisplayed() {
-        return page.locator(ERROR_MESSAGE).count() > 0;
+        return page().locator(ERROR_MESSAGE).count() > 0;
     }
 
     /**
      * Get error message text
      */
     public String getErrorMessage() {
-        return page.locator(ERROR_MESSAGE).first().textContent();
+        return page().locator(ERROR_MESSAGE).first().textContent();
     }
 
     /**
@@ -154,7 +243,7 @@ public class AddEmployeePage {
      */
     public boolean isOnEmployeeListPage() {
         try {
-            String currentUrl = page.url();
+            String currentUrl = page().url();
             return currentUrl.contains("/pim/viewEmployeeList");
         } catch (Exception e) {
             return false;
@@ -162,39 +251,111 @@ public class AddEmployeePage {
     }
 
     /**
-     * Search for employee by name in the list
+     * Find an employee through the PIM Employee Name filter and return the matched row's data
      */
-    public boolean isEmployeeInList(String firstName, String lastName) {
-        try {
-            // Wait for table to load
-            page.waitForSelector(".oxd-table-body", new Page.WaitForSelectorOptions()
-                    .setTimeout(ConfigReader.getTimeout()));
-            
-            // Check if employee appears in the table
-            String employeeRow = String.format(".oxd-table-body .oxd-table-row:has-text('%s %s')", 
-                                                firstName, lastName);
-            return page.locator(employeeRow).count() > 0;
-        } catch (Exception e) {
-            return false;
+    public Optional<EmployeeRecord> findEmployeeByName(String firstName, String lastName) {
+        String fullName = firstName + " " + lastName;
+        return TimingRegistry.time("AddEmployeePage.findEmployeeByName", () -> searchEmployeeList(
+                EmployeeApiClient.FILTER_NAME_OR_ID, fullName, () -> page().locator(SEARCH_NAME_INPUT).fill(fullName),
+                employee -> employee.fullName().equals(fullName)));
+    }
+
+    /**
+     * Find an employee through the PIM Employee Id filter and return the matched row's data
+     */
+    public Optional<EmployeeRecord> findEmployeeById(String employeeId) {
+        return TimingRegistry.time("AddEmployeePage.findEmployeeById", () -> searchEmployeeList(
+                EmployeeApiClient.FILTER_EMPLOYEE_ID, employeeId, () -> page().locator(EMPLOYEE_ID_XPATH).fill(employeeId),
+                employee -> employee.employeeId().equals(employeeId)));
+    }
+
+    /**
+     * Apply a search filter on the Employee List page and read the list API response it triggers.
+     * When the filter still matches more than one page and the record is not on the first,
+     * the remaining pages are scanned through the API with the same filter.
+     */
+    private Optional<EmployeeRecord> searchEmployeeList(String filter, String value, Runnable applyFilter,
+                                                       Predicate<EmployeeRecord> match) {
+        applyFilter.run();
+        // The list query carries paging parameters; autocomplete hint requests do not
+        Response response = page().waitForResponse(
+                candidate -> candidate.url().contains(EMPLOYEE_LIST_API) && candidate.url().contains("offset="),
+                new Page.WaitForResponseOptions().setTimeout(ConfigReader.getTimeout()),
+                () -> page().locator(SEARCH_BUTTON).click());
+        JsonObject body = JsonParser.parseString(response.text()).getAsJsonObject();
+        List<EmployeeRecord> firstPage = EmployeeApiClient.parseEmployees(body.get("data"));
+        Optional<EmployeeRecord> found = firstPage.stream().filter(match).findFirst();
+        int total = body.getAsJsonObject("meta").get("total").getAsInt();
+        if (found.isPresent() || total <= firstPage.size()) {
+            return found;
         }
+        return EmployeeApiClient.forCurrentSession().scan(filter, value, firstPage.size(), match);
+    }
+
+    /**
+     * Get ms from the start of the Employee List page load until the employee list API answered
+     */
+    public double getEmployeeListLoadMillis() {
+        return PerformanceProbe.getRequestEndMillis(page(), EMPLOYEE_LIST_API);
+    }
+
+    /**
+     * Get ms the save request (the POST to the employee API) of the Add Employee form took
+     */
+    public double getSaveRequestMillis() {
+        return PerformanceProbe.getRequestMillis(page().context(), "POST", EMPLOYEE_LIST_API);
+    }
+
+    /**
+     * Get Largest Contentful Paint of the current page in ms, or 0 when the browser does not report it
+     */
+    public double getLargestContentfulPaintMillis() {
+        return ((Number) PerformanceProbe.getPageMetrics(page()).get("lcp")).doubleValue();
     }
 
     /**
      * Fill employee details from data map
      */
     public void fillEmployeeDetails(String firstName, String middleName, String lastName, String employeeId) {
-        if (firstName != null && !firstName.isEmpty()) {
-            enterFirstName(firstName);
-        }
-        if (middleName != null && !middleName.isEmpty()) {
-            enterMiddleName(middleName);
-        }
-        if (lastName != null && !lastName.isEmpty()) {
-            enterLastName(lastName);
-        }
-        if (employeeId != null && !employeeId.isEmpty() && !employeeId.equalsIgnoreCase("AUTO")) {
-            clearEmployeeId();
-            enterEmployeeId(employeeId);
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("firstName", firstName);
+        values.put("middleName", middleName);
+        values.put("lastName", lastName);
+        if (employeeId != null && !employeeId.equalsIgnoreCase("AUTO")) {
+            values.put("employeeId", employeeId);
         }
+        fillForm(values);
+    }
+
+    /**
+     * Fill the form from field keys (firstName, middleName, lastName, employeeId) in one page evaluation;
+     * empty values are skipped
+     */
+    public void fillForm(Map<String, String> values) {
+        TimingRegistry.time("AddEmployeePage.fillForm", () -> {
+            String[][] fields = values.entrySet().stream()
+                    .filter(entry -> entry.getValue() != null && !entry.getValue().isEmpty())
+                    .map(entry -> {
+                        String selector = FORM_FIELDS.get(entry.getKey());
+                        if (selector == null) {
+                            throw new IllegalArgumentException("Unknown Add Employee field: " + entry.getKey());
+                        }
+                        return new String[] { selector, entry.getValue() };
+                    })
+                    .toArray(String[][]::new);
+            Object missing = page().evaluate(FILL_FORM_SCRIPT, fields);
+            if (missing instanceof List<?> list && !list.isEmpty()) {
+                throw new RuntimeException("Add Employee form fields not found: " + list);
+            }
+        });
+    }
+
+    /**
+     * Capture URL, toasts, field errors and table rows in one page evaluation
+     */
+    public PageSnapshot captureSnapshot() {
+        return TimingRegistry.time("AddEmployeePage.captureSnapshot", () -> gson.fromJson(
+                (String) page().evaluate(SNAPSHOT_SCRIPT, new Object[] { SUCCESS_MESSAGE, ERROR_MESSAGE, TABLE_ROWS }),
+                PageSnapshot.class));
     }
 }
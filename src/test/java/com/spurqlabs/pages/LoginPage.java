@@ -1,14 +1,17 @@
 package com.spurqlabs.pages;
 
 import com.microsoft.playwright.Page;
+import com.spurqlabs.models.LoginCredentials;
+import com.spurqlabs.utils.ConfigReader;
 import com.spurqlabs.utils.PlaywrightDriver;
+import com.spurqlabs.utils.SessionCache;
+import com.spurqlabs.utils.TestDataReader;
+import com.spurqlabs.utils.TimingRegistry;
 
 /**
  * Page Object Model for OrangeHRM Login Page
  */
 public class LoginPage {
-    private final Page page;
-
     // Locators using stable attributes
     private static final String USERNAME_INPUT = "input[name='username']";
     private static final String PASSWORD_INPUT = "input[name='password']";
@@ -16,37 +19,41 @@ public class LoginPage {
     private static final String DASHBOARD_HEADER = "h6:has-text('Dashboard')";
     private static final String ERROR_MESSAGE = ".oxd-alert-content-text";
 
-    public LoginPage() {
-        this.page = PlaywrightDriver.getPage();
+    /**
+     * Current page of the scenario; looked up on every call because restoring a cached session
+     * replaces the context and its page
+     */
+    private Page page() {
+        return PlaywrightDriver.getPage();
     }
 
     /**
      * Navigate to login page
      */
     public void navigateToLoginPage(String url) {
-        page.navigate(url);
-        page.waitForLoadState();
+        page().navigate(url);
+        page().waitForLoadState();
     }
 
     /**
      * Enter username
      */
     public void enterUsername(String username) {
-        page.locator(USERNAME_INPUT).fill(username);
+        page().locator(USERNAME_INPUT).fill(username);
     }
 
     /**
      * Enter password
      */
     public void enterPassword(String password) {
-        page.locator(PASSWORD_INPUT).fill(password);
+        page().locator(PASSWORD_INPUT).fill(password);
     }
 
     /**
      * Click login button
      */
     public void clickLoginButton() {
-        page.locator(LOGIN_BUTTON).click();
+        TimingRegistry.time("LoginPage.clickLoginButton", () -> page().locator(LOGIN_BUTTON).click());
     }
 
     /**
@@ -58,16 +65,53 @@ public class LoginPage {
         clickLoginButton();
     }
 
+    /**
+     * Log in with the credential key from loginData.json, reusing a cached session when the app accepts it
+     */
+    public boolean loginWithCachedSession(String credentialKey) {
+        String dashboardUrl = ConfigReader.getBaseUrl() + "/web/index.php/dashboard/index";
+        if (SessionCache.restore(credentialKey) && openDashboard(dashboardUrl)) {
+            return true;
+        }
+        SessionCache.invalidate(credentialKey);
+
+        synchronized (SessionCache.lockFor(credentialKey)) {
+            // Another worker may have refreshed the session while we were waiting
+            if (SessionCache.restore(credentialKey) && openDashboard(dashboardUrl)) {
+                return true;
+            }
+            LoginCredentials credentials = TestDataReader.getLoginData(credentialKey);
+            navigateToLoginPage(ConfigReader.getBaseUrl() + "/web/index.php/auth/login");
+            login(credentials.username(), credentials.password());
+            if (!isDashboardDisplayed()) {
+                return false;
+            }
+            SessionCache.save(credentialKey);
+            return true;
+        }
+    }
+
+    /**
+     * Open the dashboard directly; returns false when the app redirects back to the login form
+     */
+    public boolean openDashboard(String dashboardUrl) {
+        page().navigate(dashboardUrl);
+        page().waitForLoadState();
+        return !page().url().contains("/auth/login") && isDashboardDisplayed();
+    }
+
     /**
      * Verify dashboard is displayed after successful login
      */
     public boolean isDashboardDisplayed() {
-        try {
-            page.waitForSelector(DASHBOARD_HEADER, new Page.WaitForSelectorOptions().setTimeout(10000));
-            return page.locator(DASHBOARD_HEADER).isVisible();
-        } catch (Exception e) {
-            return false;
-        }
+        return TimingRegistry.time("LoginPage.isDashboardDisplayed", () -> {
+            try {
+                page().waitForSelector(DASHBOARD_HEADER, new Page.WaitForSelectorOptions().setTimeout(10000));
+                return page().locator(DASHBOARD_HEADER).isVisible();
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
 
     /**
@@ -75,8 +119,8 @@ public class LoginPage {
      */
     public String getErrorMessage() {
         try {
-            page.waitForSelector(ERROR_MESSAGE, new Page.WaitForSelectorOptions().setTimeout(5000));
-            return page.locator(ERROR_MESSAGE).textContent();
+            page().waitForSelector(ERROR_MESSAGE, new Page.WaitForSelectorOptions().setTimeout(5000));
+            return page().locator(ERROR_MESSAGE).textContent();
         } catch (Exception e) {
             return "";
         }
@@ -86,13 +130,13 @@ public class LoginPage {
      * Get current page title
      */
     public String getPageTitle() {
-        return page.title();
+        return page().title();
     }
 
     /**
      * Get current URL
      */
     public String getCurrentUrl() {
-        return page.url();
+        return page().url();
     }
 }
@@ -0,0 +1,70 @@
+package com.spurqlabs.plugins;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Records which glue classes (step definitions and hooks) each scenario executed, keyed by
+ * feature URI and scenario line. The dev daemon uses it to rerun only the scenarios affected
+ * by a changed step or page-object class.
+ */
+public class GlueCoveragePlugin implements ConcurrentEventListener {
+    // Recorded for scenarios with steps no glue class matched yet, so new step definitions rerun them
+    public static final String UNDEFINED = "<undefined>";
+
+    private static final Map<String, Set<String>> coverage = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        // Start each scenario from an empty set so removed steps stop counting
+        publisher.registerHandlerFor(TestCaseStarted.class,
+                event -> coverage.put(location(event.getTestCase()), ConcurrentHashMap.newKeySet()));
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+    }
+
+    /**
+     * Get glue classes per scenario location ("file:/.../add-employee.feature:12")
+     */
+    public static Map<String, Set<String>> getCoverage() {
+        return coverage;
+    }
+
+    /**
+     * Scenario location as used by the Cucumber CLI: feature URI and scenario line
+     */
+    public static String location(URI uri, int line) {
+        return uri + ":" + line;
+    }
+
+    private static String location(TestCase testCase) {
+        return location(testCase.getUri(), testCase.getLocation().getLine());
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        // e.g. "com.spurqlabs.steps.AddEmployeeSteps.iClickSave()"
+        String codeLocation = event.getTestStep().getCodeLocation();
+        if (codeLocation == null) {
+            if (event.getResult().getStatus() == Status.UNDEFINED) {
+                coverage.computeIfAbsent(location(event.getTestCase()), key -> ConcurrentHashMap.newKeySet())
+                        .add(UNDEFINED);
+            }
+            return;
+        }
+        int parameters = codeLocation.indexOf('(');
+        String method = parameters < 0 ? codeLocation : codeLocation.substring(0, parameters);
+        int separator = method.lastIndexOf('.');
+        if (separator > 0) {
+            coverage.computeIfAbsent(location(event.getTestCase()), key -> ConcurrentHashMap.newKeySet())
+                    .add(method.substring(0, separator));
+        }
+    }
+}
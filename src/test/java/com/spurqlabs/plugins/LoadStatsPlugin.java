@@ -0,0 +1,80 @@
+package com.spurqlabs.plugins;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.spurqlabs.utils.LatencyHistogram;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Aggregates step and scenario latency histograms and error counts across every Cucumber run in the
+ * JVM, for load runs that execute many short runs on many virtual-user threads.
+ */
+public class LoadStatsPlugin implements ConcurrentEventListener {
+    private static final Map<String, Stats> steps = new ConcurrentHashMap<>();
+    private static final Map<String, Stats> scenarios = new ConcurrentHashMap<>();
+
+    /**
+     * Latency histogram plus error count of one step pattern or scenario
+     */
+    public record Stats(LatencyHistogram latencies, LongAdder errors) {
+
+        Stats() {
+            this(new LatencyHistogram(), new LongAdder());
+        }
+
+        void record(long nanos, boolean failed) {
+            latencies.recordNanos(nanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+    }
+
+    /**
+     * Get stats per step pattern, sorted by pattern
+     */
+    public static Map<String, Stats> getStepStats() {
+        return new TreeMap<>(steps);
+    }
+
+    /**
+     * Get stats per scenario name, sorted by name
+     */
+    public static Map<String, Stats> getScenarioStats() {
+        return new TreeMap<>(scenarios);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            Status status = event.getResult().getStatus();
+            if (status == Status.SKIPPED) {
+                return;
+            }
+            steps.computeIfAbsent(step.getPattern(), key -> new Stats())
+                    .record(event.getResult().getDuration().toNanos(), status != Status.PASSED);
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        if (event.getResult().getStatus() == Status.SKIPPED) {
+            return;
+        }
+        scenarios.computeIfAbsent(event.getTestCase().getName(), key -> new Stats())
+                .record(event.getResult().getDuration().toNanos(), event.getResult().getStatus() != Status.PASSED);
+    }
+}
@@ -0,0 +1,125 @@
+package com.spurqlabs.plugins;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.spurqlabs.utils.ConfigReader;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+
+/**
+ * Appends one line per finished scenario to the run-history store (target/run-history.log):
+ * timestamp, scenario key (feature file:line), status, duration, tags and name, tab separated.
+ * The scheduler in TestRunner reads it to run failing and flaky scenarios first. At the start of
+ * each run the store is compacted to the last "historyRuns" results per scenario, the window the
+ * scheduler reads.
+ */
+public class RunHistoryPlugin implements ConcurrentEventListener {
+    private BufferedWriter writer;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> open());
+        publisher.registerHandlerFor(TestCaseFinished.class, this::append);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> close());
+    }
+
+    /**
+     * Scenario key shared with the shard planner and scheduler: feature file name and pickle line
+     */
+    public static String scenarioKey(TestCase testCase) {
+        String uri = testCase.getUri().toString();
+        return uri.substring(uri.lastIndexOf('/') + 1) + ":" + testCase.getLocation().getLine();
+    }
+
+    private synchronized void open() {
+        try {
+            Path path = Paths.get(ConfigReader.getRunHistoryPath());
+            Files.createDirectories(path.getParent());
+            compact(path, ConfigReader.getSchedulingHistoryRuns());
+            writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("[RunHistoryPlugin] Run history disabled: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Keep only the last N passed or failed results per scenario, dropping skipped and undefined ones.
+     * The store is rewritten through a temp file and an atomic move, so a reader never sees half of it.
+     */
+    static void compact(Path path, int recentRuns) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(path);
+        Map<String, Integer> remaining = new HashMap<>();
+        List<String> kept = new ArrayList<>();
+        // Walk newest first so the budget per scenario is spent on its latest results
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            String[] fields = lines.get(i).split("\t");
+            if (fields.length < 4 || !(fields[2].equals("PASSED") || fields[2].equals("FAILED"))) {
+                continue;
+            }
+            int left = remaining.getOrDefault(fields[1], recentRuns);
+            if (left > 0) {
+                kept.add(lines.get(i));
+                remaining.put(fields[1], left - 1);
+            }
+        }
+        if (kept.size() == lines.size()) {
+            return;
+        }
+        Collections.reverse(kept);
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        Files.write(temp, kept);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private synchronized void append(TestCaseFinished event) {
+        if (writer == null) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        try {
+            writer.write(String.join("\t",
+                    Instant.now().toString(),
+                    scenarioKey(testCase),
+                    event.getResult().getStatus().name(),
+                    String.valueOf(event.getResult().getDuration().toMillis()),
+                    String.join(",", testCase.getTags()),
+                    testCase.getName().replace('\t', ' ')));
+            writer.newLine();
+            // Flush per scenario so a killed run still leaves its history behind
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("[RunHistoryPlugin] Failed to record " + testCase.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private synchronized void close() {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } catch (IOException e) {
+            System.err.println("[RunHistoryPlugin] Failed to close run history: " + e.getMessage());
+        }
+    }
+}
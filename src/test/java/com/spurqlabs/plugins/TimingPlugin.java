@@ -0,0 +1,85 @@
+package com.spurqlabs.plugins;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.spurqlabs.utils.LatencyHistogram;
+import com.spurqlabs.utils.TimingRegistry;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Cucumber plugin recording step and hook durations into {@link TimingRegistry} histograms,
+ * together with the page-object, wait and driver timings recorded during the run.
+ * Writes p50/p95/p99 per entry to target/timing-report.json and target/timing-report.txt.
+ */
+public class TimingPlugin implements ConcurrentEventListener {
+    private static final String JSON_REPORT = "target/timing-report.json";
+    private static final String TEXT_REPORT = "target/timing-report.txt";
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeReports());
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        long nanos = event.getResult().getDuration().toNanos();
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            // Aggregate by step definition pattern, so parameterized steps share a histogram
+            TimingRegistry.record("step", step.getPattern(), nanos);
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            TimingRegistry.record("hook", hook.getHookType() + " " + hook.getCodeLocation(), nanos);
+        }
+    }
+
+    private void writeReports() {
+        Map<String, LatencyHistogram> histograms = TimingRegistry.snapshot();
+        JsonArray entries = new JsonArray();
+        StringBuilder table = new StringBuilder(String.format("%-8s %-70s %7s %10s %10s %10s %10s%n",
+                "TYPE", "NAME", "COUNT", "P50 ms", "P95 ms", "P99 ms", "MAX ms"));
+
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            String[] key = entry.getKey().split("\\|", 2);
+            LatencyHistogram histogram = entry.getValue();
+            JsonObject json = new JsonObject();
+            json.addProperty("category", key[0]);
+            json.addProperty("name", key[1]);
+            json.addProperty("count", histogram.getCount());
+            json.addProperty("p50Ms", histogram.getPercentileMillis(50));
+            json.addProperty("p95Ms", histogram.getPercentileMillis(95));
+            json.addProperty("p99Ms", histogram.getPercentileMillis(99));
+            json.addProperty("maxMs", histogram.getMaxMillis());
+            json.addProperty("meanMs", histogram.getMeanMillis());
+            entries.add(json);
+
+            table.append(String.format("%-8s %-70s %7d %10.1f %10.1f %10.1f %10.1f%n", key[0], abbreviate(key[1]),
+                    histogram.getCount(), histogram.getPercentileMillis(50), histogram.getPercentileMillis(95),
+                    histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+        }
+
+        try {
+            Path jsonPath = Paths.get(JSON_REPORT);
+            Files.createDirectories(jsonPath.getParent());
+            Files.writeString(jsonPath, new GsonBuilder().setPrettyPrinting().create().toJson(entries));
+            Files.writeString(Paths.get(TEXT_REPORT), table.toString());
+        } catch (IOException e) {
+            System.err.println("[TimingPlugin] Failed to write timing report: " + e.getMessage());
+        }
+    }
+
+    private static String abbreviate(String name) {
+        return name.length() <= 70 ? name : name.substring(0, 67) + "...";
+    }
+}
@@ -0,0 +1,53 @@
+package com.spurqlabs.steps;
+
+import java.util.List;
+
+import org.testng.Assert;
+
+import com.spurqlabs.models.Employee;
+import com.spurqlabs.models.EmployeeRecord;
+import com.spurqlabs.utils.EmployeeApiClient;
+import com.spurqlabs.utils.LocalOrangeHrmServer;
+import com.spurqlabs.utils.PlaywrightDriver;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+/**
+ * Step definitions for the Employee API feature, run against the local stub server
+ */
+public class EmployeeApiSteps {
+    private EmployeeApiClient apiClient;
+    private EmployeeRecord createdEmployee;
+
+    @Given("the employee API points at the local stub server")
+    public void theEmployeeAPIPointsAtTheLocalStubServer() {
+        LocalOrangeHrmServer server = LocalOrangeHrmServer.start();
+        apiClient = new EmployeeApiClient(PlaywrightDriver.getContext().request(), server.getBaseUrl());
+    }
+
+    @When("I create employee {string} {string} with Employee ID {string} through the API")
+    public void iCreateEmployeeWithEmployeeIDThroughTheAPI(String firstName, String lastName, String employeeId) {
+        createdEmployee = apiClient.create(new Employee(firstName, "", lastName, employeeId));
+        Assert.assertTrue(createdEmployee.empNumber() > 0, "Created employee has no empNumber");
+    }
+
+    @Then("looking up {string} through the API should return Employee ID {string}")
+    public void lookingUpThroughTheAPIShouldReturnEmployeeID(String nameOrId, String expectedId) {
+        List<EmployeeRecord> employees = apiClient.findByNameOrId(nameOrId);
+        Assert.assertEquals(employees.size(), 1, "Expected exactly one employee for '" + nameOrId + "'");
+        Assert.assertEquals(employees.get(0).employeeId(), expectedId, "Employee ID does not match");
+    }
+
+    @When("I delete the employee through the API")
+    public void iDeleteTheEmployeeThroughTheAPI() {
+        apiClient.delete(List.of(createdEmployee.empNumber()));
+    }
+
+    @Then("looking up {string} through the API should return no employees")
+    public void lookingUpThroughTheAPIShouldReturnNoEmployees(String nameOrId) {
+        Assert.assertTrue(apiClient.findByNameOrId(nameOrId).isEmpty(),
+            "Employee '" + nameOrId + "' should not be returned after delete");
+    }
+}
@@ -1,12 +1,20 @@
 package com.spurqlabs.steps;
 
-import com.google.gson.JsonObject;
+import com.spurqlabs.models.LoginCredentials;
 import com.spurqlabs.pages.LoginPage;
+import com.spurqlabs.utils.CleanupQueue;
 import com.spurqlabs.utils.ConfigReader;
+import com.spurqlabs.utils.FailureRecorder;
+import com.spurqlabs.utils.LocalOrangeHrmServer;
 import com.spurqlabs.utils.PlaywrightDriver;
+import com.spurqlabs.utils.RetryPolicy;
 import com.spurqlabs.utils.TestDataReader;
+import com.spurqlabs.utils.UniqueDataGenerator;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
@@ -18,20 +26,61 @@ import org.testng.Assert;
  */
 public class LoginSteps {
     private LoginPage loginPage;
-    private JsonObject validCredentials;
-    private JsonObject invalidCredentials;
+    private LoginCredentials validCredentials;
+    private LoginCredentials invalidCredentials;
+
+    @BeforeAll
+    public static void startUp() {
+        if (ConfigReader.isLocalServerEnabled()) {
+            LocalOrangeHrmServer.start();
+        }
+    }
 
     @Before
-    public void setUp() {
-        PlaywrightDriver.initDriver();
+    public void setUp(Scenario scenario) {
+        // Feature file + scenario name identifies the scenario's HAR recording
+        String uri = scenario.getUri().toString();
+        String feature = uri.substring(uri.lastIndexOf('/') + 1).replace(".feature", "");
+        String recordingName = feature + " " + scenario.getName();
+        PlaywrightDriver.initDriver(recordingName);
+        UniqueDataGenerator.resetScenario(recordingName);
         loginPage = new LoginPage();
         validCredentials = TestDataReader.getValidUserCredentials();
         invalidCredentials = TestDataReader.getInvalidUserCredentials();
     }
 
     @After
-    public void tearDown() {
+    public void tearDown(Scenario scenario) {
+        if (scenario.isFailed()) {
+            FailureRecorder.Capture capture = PlaywrightDriver.captureFailure(scenario.getLine());
+            if (capture != null) {
+                if (capture.screenshot() != null) {
+                    scenario.attach(capture.screenshot(), "image/png", "Screenshot at failure");
+                }
+                scenario.attach(capture.timeline(), "text/plain", "Last actions, console and network events");
+                scenario.log("Trace and DOM saved to " + capture.directory());
+            }
+        }
         PlaywrightDriver.quitDriver();
+        PlaywrightDriver.drainScenarioReports().forEach(scenario::log);
+    }
+
+    @AfterAll
+    public static void shutDown() {
+        if (ConfigReader.isLoadMode()) {
+            // LoadRunner loops many runs on parallel virtual users and tears down once at the end
+            return;
+        }
+        // Before closing drivers and the local server, which the cleanup requests still need
+        CleanupQueue.flush();
+        RetryPolicy.getRetrySummary().forEach((action, summary) ->
+                System.out.println("[RetryPolicy] " + action + " -> " + summary));
+        if (ConfigReader.isDevDaemon()) {
+            // The daemon keeps the browser and stub server warm for its next run
+            return;
+        }
+        PlaywrightDriver.closeAll();
+        LocalOrangeHrmServer.stop();
     }
 
     @Given("I navigate to the OrangeHRM login page")
@@ -42,18 +91,14 @@ public class LoginSteps {
 
     @When("I enter valid username and password")
     public void iEnterValidUsernameAndPassword() {
-        String username = validCredentials.get("username").getAsString();
-        String password = validCredentials.get("password").getAsString();
-        loginPage.enterUsername(username);
-        loginPage.enterPassword(password);
+        loginPage.enterUsername(validCredentials.username());
+        loginPage.enterPassword(validCredentials.password());
     }
 
     @When("I enter invalid username and password")
     public void iEnterInvalidUsernameAndPassword() {
-        String username = invalidCredentials.get("username").getAsString();
-        String password = invalidCredentials.get("password").getAsString();
-        loginPage.enterUsername(username);
-        loginPage.enterPassword(password);
+        loginPage.enterUsername(invalidCredentials.username());
+        loginPage.enterPassword(invalidCredentials.password());
     }
 
     @When("I enter username {string}")
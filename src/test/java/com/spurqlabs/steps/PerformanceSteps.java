@@ -0,0 +1,62 @@
+package com.spurqlabs.steps;
+
+import org.testng.Assert;
+
+import com.spurqlabs.pages.AddEmployeePage;
+import com.spurqlabs.utils.PerformanceTrend;
+
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import io.cucumber.java.en.Then;
+
+/**
+ * Step definitions for performance budgets
+ * Each measurement is appended to the trend file and checked against its budget and the stored baseline
+ */
+public class PerformanceSteps {
+    private AddEmployeePage addEmployeePage;
+    private Scenario scenario;
+
+    // Runs for every scenario, so the page object is only created once a performance step needs it
+    @Before
+    public void rememberScenario(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    private AddEmployeePage addEmployeePage() {
+        if (addEmployeePage == null) {
+            addEmployeePage = new AddEmployeePage();
+        }
+        return addEmployeePage;
+    }
+
+    @Then("the PIM employee list should load within {int} ms")
+    public void thePIMEmployeeListShouldLoadWithin(int budgetMs) {
+        double loadMs = addEmployeePage().getEmployeeListLoadMillis();
+        Assert.assertTrue(loadMs >= 0, "No employee list request was made on this page");
+        assertWithinBudget("pim.employeeList.load", loadMs, budgetMs);
+    }
+
+    @Then("saving the employee should complete within {int} ms")
+    public void savingTheEmployeeShouldCompleteWithin(int budgetMs) {
+        double saveMs = addEmployeePage().getSaveRequestMillis();
+        Assert.assertTrue(saveMs >= 0, "No save request was recorded; performance.enabled must be on");
+        assertWithinBudget("pim.employee.save", saveMs, budgetMs);
+    }
+
+    @Then("the employee list Largest Contentful Paint should be within {int} ms")
+    public void theEmployeeListLargestContentfulPaintShouldBeWithin(int budgetMs) {
+        double lcpMs = addEmployeePage().getLargestContentfulPaintMillis();
+        if (lcpMs <= 0) {
+            // Only Chromium reports LCP
+            scenario.log("Largest Contentful Paint not reported by this browser, budget not checked");
+            return;
+        }
+        assertWithinBudget("pim.employeeList.lcp", lcpMs, budgetMs);
+    }
+
+    private void assertWithinBudget(String metric, double valueMs, int budgetMs) {
+        String failure = PerformanceTrend.check(metric, valueMs, budgetMs);
+        Assert.assertNull(failure, failure);
+    }
+}
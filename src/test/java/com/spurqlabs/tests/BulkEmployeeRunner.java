@@ -0,0 +1,162 @@
+package com.spurqlabs.tests;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.spurqlabs.models.Employee;
+import com.spurqlabs.pages.AddEmployeePage;
+import com.spurqlabs.pages.LoginPage;
+import com.spurqlabs.utils.ConfigReader;
+import com.spurqlabs.utils.EmployeeStreamReader;
+import com.spurqlabs.utils.PlaywrightDriver;
+
+/**
+ * Data-driven bulk creation of employees for load and seeding runs.
+ * Records are streamed from a JSON-lines/CSV file into a bounded queue (backpressure) and
+ * consumed by worker threads that each own a logged-in browser context.
+ *
+ * Usage: BulkEmployeeRunner <employees.jsonl|employees.csv> [workers]
+ */
+public class BulkEmployeeRunner {
+    private static final Employee END_OF_STREAM = new Employee(null, null, null, null);
+    private static final String LATENCY_LOG = "target/bulk-employees.csv";
+    private static final int PROGRESS_INTERVAL_SECONDS = 5;
+
+    private final int workers;
+    private final BlockingQueue<Employee> queue;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong latencyMillis = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private PrintWriter latencyLog;
+    private long startNanos;
+
+    public BulkEmployeeRunner(int workers) {
+        this.workers = workers;
+        // Small buffer keeps the reader at most a couple of records ahead of each worker
+        this.queue = new ArrayBlockingQueue<>(workers * 2);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: BulkEmployeeRunner <employees.jsonl|employees.csv> [workers]");
+            System.exit(2);
+        }
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : ConfigReader.getThreadCount();
+        new BulkEmployeeRunner(workers).run(Paths.get(args[0]));
+    }
+
+    /**
+     * Stream every record from the file and create it through the Add Employee form
+     */
+    public void run(Path dataFile) throws IOException, InterruptedException {
+        Files.createDirectories(Paths.get(LATENCY_LOG).getParent());
+        latencyLog = new PrintWriter(Files.newBufferedWriter(Paths.get(LATENCY_LOG)), true);
+        latencyLog.println("sequence,firstName,lastName,status,latencyMs");
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(this::work, "bulk-worker-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        startNanos = System.nanoTime();
+        progress.scheduleAtFixedRate(this::printProgress, PROGRESS_INTERVAL_SECONDS,
+                PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        try (EmployeeStreamReader reader = new EmployeeStreamReader(dataFile)) {
+            Employee employee;
+            while ((employee = reader.next()) != null) {
+                queue.put(employee);
+            }
+        } finally {
+            for (int i = 0; i < workers; i++) {
+                queue.put(END_OF_STREAM);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            progress.shutdownNow();
+            printProgress();
+            latencyLog.close();
+            PlaywrightDriver.closeAll();
+        }
+    }
+
+    /**
+     * Worker loop: one browser context per thread, one record at a time
+     */
+    private void work() {
+        try {
+            PlaywrightDriver.initDriver();
+            LoginPage loginPage = new LoginPage();
+            if (!loginPage.loginWithCachedSession("validCredentials")) {
+                throw new IllegalStateException("Login failed - Dashboard not displayed");
+            }
+            AddEmployeePage addEmployeePage = new AddEmployeePage();
+
+            Employee employee;
+            while ((employee = queue.take()) != END_OF_STREAM) {
+                long start = System.nanoTime();
+                boolean saved;
+                try {
+                    addEmployeePage.navigateToAddEmployee();
+                    addEmployeePage.fillEmployeeDetails(employee.firstName(), employee.middleName(),
+                            employee.lastName(), employee.employeeId());
+                    addEmployeePage.clickSave();
+                    saved = addEmployeePage.isSuccessMessageDisplayed();
+                } catch (Exception e) {
+                    saved = false;
+                }
+                record(employee, saved, (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("[BulkEmployeeRunner] " + Thread.currentThread().getName() + " stopped: " + e.getMessage());
+            // Keep draining so the reader is never blocked by a dead worker
+            drainAsFailed();
+        } finally {
+            PlaywrightDriver.quitDriver();
+        }
+    }
+
+    private void drainAsFailed() {
+        try {
+            Employee employee;
+            while ((employee = queue.take()) != END_OF_STREAM) {
+                record(employee, false, 0);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(Employee employee, boolean saved, long elapsedMs) {
+        (saved ? created : failed).incrementAndGet();
+        latencyMillis.addAndGet(elapsedMs);
+        latencyLog.printf("%d,%s,%s,%s,%d%n", sequence.incrementAndGet(), employee.firstName(),
+                employee.lastName(), saved ? "CREATED" : "FAILED", elapsedMs);
+    }
+
+    private void printProgress() {
+        long done = created.get() + failed.get();
+        double elapsedSeconds = Math.max(1, System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long averageMs = done == 0 ? 0 : latencyMillis.get() / done;
+        System.out.printf("[BulkEmployeeRunner] %d created, %d failed, %.1f records/s, avg latency %d ms%n",
+                created.get(), failed.get(), done / elapsedSeconds, averageMs);
+    }
+}
@@ -0,0 +1,338 @@
+package com.spurqlabs.tests;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import com.spurqlabs.plugins.GlueCoveragePlugin;
+
+import io.cucumber.core.cli.Main;
+import io.cucumber.testng.CucumberOptions;
+
+/**
+ * Long-running development mode. Keeps the JVM, the browser (see
+ * {@link com.spurqlabs.utils.ConfigReader#isDevDaemon()}) and the cached login warm, watches the
+ * feature files and the page-object/step sources, and reruns only the scenarios a change affects:
+ * edited scenarios of a feature file, or the scenarios whose steps and hooks used a changed class.
+ * Changed sources are compiled in-process and loaded through a fresh child-first class loader.
+ *
+ * Usage: DevDaemon [tag expression for the warm-up run]
+ */
+public class DevDaemon {
+    private static final Path FEATURES_DIR = Paths.get("src/test/resources/features");
+    private static final Path SOURCES_DIR = Paths.get("src/test/java");
+    private static final Path CLASSES_DIR = Paths.get("target/dev-daemon");
+    private static final List<String> RELOADABLE_PACKAGES = List.of("com.spurqlabs.pages", "com.spurqlabs.steps");
+    private static final String STEPS_PACKAGE = "com.spurqlabs.steps";
+    private static final Pattern SCENARIO_START = Pattern.compile("^\\s*(Scenario|Scenario Outline|Scenario Template|Example):.*");
+    private static final long DEBOUNCE_MS = 300;
+
+    private final Map<Path, FeatureSnapshot> features = new HashMap<>();
+    private ClassLoader glueLoader = DevDaemon.class.getClassLoader();
+    private int generation;
+
+    /**
+     * Text of a feature file split into the part shared by all scenarios and one block per scenario line
+     */
+    private record FeatureSnapshot(String header, Map<Integer, String> scenarios) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("devDaemon", "true");
+        System.setProperty("cucumber.publish.quiet", "true");
+        String tags = args.length > 0 ? args[0] : TestRunner.class.getAnnotation(CucumberOptions.class).tags();
+        new DevDaemon().run(tags);
+    }
+
+    /**
+     * Warm up with the tagged scenarios, then rerun affected scenarios on every change until interrupted
+     */
+    private void run(String tags) throws IOException, InterruptedException {
+        try (Stream<Path> files = Files.walk(FEATURES_DIR)) {
+            for (Path feature : files.filter(path -> path.toString().endsWith(".feature")).toList()) {
+                features.put(feature.toAbsolutePath(), readFeature(feature));
+            }
+        }
+        execute(List.of("--tags", tags, FEATURES_DIR.toString()));
+
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            List<Path> watched = new ArrayList<>();
+            try (Stream<Path> directories = Files.walk(FEATURES_DIR)) {
+                watched.addAll(directories.filter(Files::isDirectory).toList());
+            }
+            for (String pkg : RELOADABLE_PACKAGES) {
+                watched.add(SOURCES_DIR.resolve(pkg.replace('.', '/')));
+            }
+            for (Path directory : watched) {
+                directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            System.out.println("[DevDaemon] Watching " + watched + " - press Ctrl+C to stop");
+
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(watcher.take(), changed);
+                // Editors save in bursts; wait for a quiet period before running
+                WatchKey key;
+                while ((key = watcher.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed);
+                }
+                onChange(changed);
+            }
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path name) {
+                changed.add(directory.resolve(name).toAbsolutePath());
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Work out the affected scenarios of a batch of file changes and run them
+     */
+    private void onChange(Set<Path> changed) throws IOException {
+        Set<String> locations = new LinkedHashSet<>();
+        Set<String> changedClasses = new LinkedHashSet<>();
+        for (Path path : changed) {
+            String name = path.getFileName().toString();
+            if (name.endsWith(".feature")) {
+                locations.addAll(changedScenarios(path));
+            } else if (name.endsWith(".java")) {
+                String relative = SOURCES_DIR.toAbsolutePath().relativize(path).toString();
+                changedClasses.add(relative.replace(".java", "").replace('/', '.').replace('\\', '.'));
+            }
+        }
+        if (!changedClasses.isEmpty()) {
+            System.out.println("[DevDaemon] Recompiling after change to " + changedClasses);
+            if (!recompile()) {
+                return;
+            }
+            locations.addAll(scenariosUsing(affectedGlue(changedClasses)));
+        }
+        if (locations.isEmpty()) {
+            System.out.println("[DevDaemon] No scenarios affected by " + changed);
+            return;
+        }
+        execute(new ArrayList<>(locations));
+    }
+
+    /**
+     * Scenarios of a feature file whose text changed; all of them when the header or Background changed
+     */
+    private List<String> changedScenarios(Path feature) throws IOException {
+        if (!Files.exists(feature)) {
+            features.remove(feature);
+            return List.of();
+        }
+        FeatureSnapshot previous = features.get(feature);
+        FeatureSnapshot current = readFeature(feature);
+        features.put(feature, current);
+        List<String> locations = new ArrayList<>();
+        boolean all = previous == null || !previous.header().equals(current.header());
+        current.scenarios().forEach((line, text) -> {
+            // Compared by content so edits above a scenario, which shift its line, do not rerun it
+            if (all || !previous.scenarios().containsValue(text)) {
+                locations.add(relativePath(feature) + ":" + line);
+            }
+        });
+        return locations;
+    }
+
+    /**
+     * Split a feature file into header (Feature, Background) and scenario blocks, tags included
+     */
+    private static FeatureSnapshot readFeature(Path feature) throws IOException {
+        List<String> lines = Files.readAllLines(feature);
+        StringBuilder header = new StringBuilder();
+        Map<Integer, String> scenarios = new LinkedHashMap<>();
+        StringBuilder block = null;
+        int blockLine = 0;
+        List<String> pendingTags = new ArrayList<>();
+        for (int index = 0; index < lines.size(); index++) {
+            String line = lines.get(index);
+            if (line.trim().startsWith("@")) {
+                pendingTags.add(line.trim());
+                continue;
+            }
+            if (SCENARIO_START.matcher(line).matches()) {
+                if (block != null) {
+                    scenarios.put(blockLine, block.toString());
+                }
+                block = new StringBuilder();
+                blockLine = index + 1;
+            }
+            StringBuilder target = block == null ? header : block;
+            pendingTags.forEach(tag -> target.append(tag).append('\n'));
+            pendingTags.clear();
+            target.append(line.trim()).append('\n');
+        }
+        if (block != null) {
+            scenarios.put(blockLine, block.toString());
+        }
+        return new FeatureSnapshot(header.toString(), scenarios);
+    }
+
+    /**
+     * Glue classes to rerun for changed classes: changed step classes and step classes using a changed page
+     */
+    private static Set<String> affectedGlue(Set<String> changedClasses) throws IOException {
+        Set<String> glue = new LinkedHashSet<>();
+        Path stepsDir = SOURCES_DIR.resolve(STEPS_PACKAGE.replace('.', '/'));
+        try (Stream<Path> sources = Files.list(stepsDir)) {
+            for (Path source : sources.filter(path -> path.toString().endsWith(".java")).toList()) {
+                String stepClass = STEPS_PACKAGE + "." + source.getFileName().toString().replace(".java", "");
+                String code = Files.readString(source);
+                for (String changedClass : changedClasses) {
+                    String simpleName = changedClass.substring(changedClass.lastIndexOf('.') + 1);
+                    if (changedClass.equals(stepClass) || code.matches("(?s).*\\b" + simpleName + "\\b.*")) {
+                        glue.add(stepClass);
+                    }
+                }
+                if (changedClasses.contains(stepClass)) {
+                    // A changed step class may now define steps that were undefined
+                    glue.add(GlueCoveragePlugin.UNDEFINED);
+                }
+            }
+        }
+        return glue;
+    }
+
+    /**
+     * Locations of scenarios that used any of the glue classes in their last run
+     */
+    private static List<String> scenariosUsing(Set<String> glue) {
+        List<String> locations = new ArrayList<>();
+        GlueCoveragePlugin.getCoverage().forEach((location, used) -> {
+            if (used.stream().anyMatch(glue::contains)) {
+                int separator = location.lastIndexOf(':');
+                Path feature = Paths.get(URI.create(location.substring(0, separator)));
+                locations.add(relativePath(feature) + location.substring(separator));
+            }
+        });
+        return locations;
+    }
+
+    /**
+     * Compile the reloadable packages into a new generation directory and switch to a class loader over it
+     */
+    private boolean recompile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            System.err.println("[DevDaemon] No Java compiler available - run the daemon on a JDK to reload sources");
+            return false;
+        }
+        Path output = CLASSES_DIR.resolve("gen-" + (++generation));
+        Files.createDirectories(output);
+        List<String> arguments = new ArrayList<>(List.of("-d", output.toString(),
+                "-classpath", System.getProperty("java.class.path"), "-proc:none", "-nowarn"));
+        for (String pkg : RELOADABLE_PACKAGES) {
+            try (Stream<Path> sources = Files.list(SOURCES_DIR.resolve(pkg.replace('.', '/')))) {
+                sources.filter(path -> path.toString().endsWith(".java")).forEach(path -> arguments.add(path.toString()));
+            }
+        }
+        long start = System.nanoTime();
+        if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0) {
+            System.err.println("[DevDaemon] Compilation failed - keeping the previous classes");
+            return false;
+        }
+        if (glueLoader instanceof ReloadingClassLoader previous) {
+            previous.close();
+        }
+        glueLoader = new ReloadingClassLoader(output, DevDaemon.class.getClassLoader());
+        System.out.printf("[DevDaemon] Compiled generation %d in %d ms%n", generation, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Run Cucumber in this thread, so the thread-confined browser stays warm between runs
+     */
+    private void execute(List<String> selection) {
+        List<String> argv = new ArrayList<>(List.of("--glue", STEPS_PACKAGE, "--monochrome",
+                "--plugin", "progress", "--plugin", GlueCoveragePlugin.class.getName()));
+        argv.addAll(selection);
+        long start = System.nanoTime();
+        byte status = Main.run(argv.toArray(String[]::new), glueLoader);
+        System.out.printf("[DevDaemon] %s finished in %d ms (%s)%n", selection,
+                (System.nanoTime() - start) / 1_000_000, status == 0 ? "passed" : "failed");
+    }
+
+    private static String relativePath(Path path) {
+        return Paths.get("").toAbsolutePath().relativize(path.toAbsolutePath()).toString().replace('\\', '/');
+    }
+
+    /**
+     * Child-first class loader for the page-object and step packages; everything else, including
+     * the driver and session state in com.spurqlabs.utils, stays in the parent and survives reloads
+     */
+    private static class ReloadingClassLoader extends URLClassLoader {
+
+        ReloadingClassLoader(Path classes, ClassLoader parent) throws MalformedURLException {
+            super(new URL[] { classes.toUri().toURL() }, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!isReloadable(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try {
+                        loaded = findClass(name);
+                    } catch (ClassNotFoundException e) {
+                        loaded = super.loadClass(name, false);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+
+        @Override
+        public URL getResource(String name) {
+            URL own = isReloadable(name.replace('/', '.')) ? findResource(name) : null;
+            return own != null ? own : super.getResource(name);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            // Glue scanning must only see the recompiled classes, not the stale ones in target/test-classes
+            return isReloadable(name.replace('/', '.')) ? findResources(name) : super.getResources(name);
+        }
+
+        private static boolean isReloadable(String name) {
+            return RELOADABLE_PACKAGES.stream().anyMatch(pkg -> name.equals(pkg) || name.startsWith(pkg + "."));
+        }
+    }
+}
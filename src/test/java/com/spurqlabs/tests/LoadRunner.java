@@ -0,0 +1,232 @@
+package com.spurqlabs.tests;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.spurqlabs.plugins.GlueCoveragePlugin;
+import com.spurqlabs.plugins.LoadStatsPlugin;
+import com.spurqlabs.utils.CleanupQueue;
+import com.spurqlabs.utils.LatencyHistogram;
+import com.spurqlabs.utils.LocalOrangeHrmServer;
+import com.spurqlabs.utils.PlaywrightDriver;
+
+import io.cucumber.core.cli.Main;
+
+/**
+ * Runs the existing feature files as a load test. Virtual users start spread over the ramp-up,
+ * and each one loops through the matching scenarios on its own warm browser, with a fresh context
+ * per scenario, until the duration ends. A virtual user finishes its current scenario before it stops.
+ * Throughput, error rate and latency percentiles per step and scenario are written to target/.
+ * Use a tag expression such as "@api" to load the API-only scenarios.
+ *
+ * Usage: LoadRunner <virtualUsers> <rampUpSeconds> <durationSeconds> [tag expression]
+ */
+public class LoadRunner {
+    private static final String FEATURES_DIR = "src/test/resources/features";
+    private static final String STEPS_PACKAGE = "com.spurqlabs.steps";
+    private static final String DEFAULT_TAGS = "(@login or @smoke) and not @api";
+    private static final String JSON_REPORT = "target/load-report.json";
+    private static final String TEXT_REPORT = "target/load-report.txt";
+    private static final int PROGRESS_INTERVAL_SECONDS = 5;
+
+    private final int virtualUsers;
+    private final int rampUpSeconds;
+    private final int durationSeconds;
+    private final String tags;
+    private final AtomicInteger nextScenario = new AtomicInteger();
+    private final AtomicLong iterations = new AtomicLong();
+    private final AtomicLong failedIterations = new AtomicLong();
+    private final AtomicInteger activeUsers = new AtomicInteger();
+    private volatile boolean stopping;
+    private List<String> scenarios;
+    private long startNanos;
+
+    public LoadRunner(int virtualUsers, int rampUpSeconds, int durationSeconds, String tags) {
+        this.virtualUsers = virtualUsers;
+        this.rampUpSeconds = rampUpSeconds;
+        this.durationSeconds = durationSeconds;
+        this.tags = tags;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: LoadRunner <virtualUsers> <rampUpSeconds> <durationSeconds> [tag expression]");
+            System.exit(2);
+        }
+        System.setProperty("loadMode", "true");
+        System.setProperty("cucumber.publish.quiet", "true");
+        new LoadRunner(Integer.parseInt(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+                args.length > 3 ? args[3] : DEFAULT_TAGS).run();
+    }
+
+    /**
+     * Discover the scenarios, run the virtual users until the duration ends, then tear down and report
+     */
+    public void run() throws InterruptedException {
+        scenarios = discoverScenarios();
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No scenarios match " + tags);
+        }
+        System.out.printf("[LoadRunner] %d virtual users, %d s ramp-up, %d s duration over %d scenarios%n",
+                virtualUsers, rampUpSeconds, durationSeconds, scenarios.size());
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < virtualUsers; i++) {
+            long startDelayMs = TimeUnit.SECONDS.toMillis(rampUpSeconds) * i / virtualUsers;
+            Thread thread = new Thread(() -> virtualUser(startDelayMs), "vu-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        startNanos = System.nanoTime();
+        scheduler.scheduleAtFixedRate(this::printProgress, PROGRESS_INTERVAL_SECONDS,
+                PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        scheduler.schedule(() -> {
+            stopping = true;
+            System.out.println("[LoadRunner] Duration reached, waiting for in-flight scenarios");
+        }, durationSeconds, TimeUnit.SECONDS);
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } finally {
+            scheduler.shutdownNow();
+            long elapsedNanos = System.nanoTime() - startNanos;
+            CleanupQueue.flush();
+            PlaywrightDriver.closeAll();
+            LocalOrangeHrmServer.stop();
+            writeReport(elapsedNanos);
+        }
+    }
+
+    /**
+     * Virtual-user loop: wait for the ramp-up slot, then run one scenario per Cucumber run until stopped
+     */
+    private void virtualUser(long startDelayMs) {
+        try {
+            Thread.sleep(startDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        activeUsers.incrementAndGet();
+        try {
+            while (!stopping) {
+                String scenario = scenarios.get(Math.floorMod(nextScenario.getAndIncrement(), scenarios.size()));
+                byte status = Main.run(new String[] { "--glue", STEPS_PACKAGE, "--no-summary",
+                        "--plugin", LoadStatsPlugin.class.getName(), scenario }, LoadRunner.class.getClassLoader());
+                iterations.incrementAndGet();
+                if (status != 0) {
+                    failedIterations.incrementAndGet();
+                }
+            }
+        } finally {
+            activeUsers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Dry-run the tagged features to list scenario locations ("path:line")
+     */
+    private List<String> discoverScenarios() {
+        Main.run(new String[] { "--dry-run", "--no-summary", "--glue", STEPS_PACKAGE, "--tags", tags,
+                "--plugin", GlueCoveragePlugin.class.getName(), FEATURES_DIR }, LoadRunner.class.getClassLoader());
+        Path workingDirectory = Paths.get("").toAbsolutePath();
+        List<String> locations = new ArrayList<>();
+        for (String location : GlueCoveragePlugin.getCoverage().keySet()) {
+            int separator = location.lastIndexOf(':');
+            Path feature = Paths.get(URI.create(location.substring(0, separator)));
+            locations.add(workingDirectory.relativize(feature).toString().replace('\\', '/') + location.substring(separator));
+        }
+        GlueCoveragePlugin.getCoverage().clear();
+        locations.sort(null);
+        return locations;
+    }
+
+    private void printProgress() {
+        double elapsedSeconds = Math.max(1, System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("[LoadRunner] %d active users, %d scenarios (%d failed), %.2f scenarios/s%n",
+                activeUsers.get(), iterations.get(), failedIterations.get(), iterations.get() / elapsedSeconds);
+    }
+
+    /**
+     * Write throughput, error rate and percentiles per scenario and step to target/load-report.{json,txt}
+     */
+    private void writeReport(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long total = iterations.get();
+        double errorRate = total == 0 ? 0 : (double) failedIterations.get() / total;
+        StringBuilder text = new StringBuilder(String.format(
+                "Virtual users: %d, ramp-up: %d s, duration: %d s, elapsed: %.1f s%n"
+                        + "Scenarios: %d, failed: %d, throughput: %.2f scenarios/s, error rate: %.2f%%%n%n",
+                virtualUsers, rampUpSeconds, durationSeconds, elapsedSeconds, total, failedIterations.get(),
+                total / elapsedSeconds, errorRate * 100));
+        text.append(String.format("%-8s %-60s %7s %7s %8s %10s %10s %10s %10s%n",
+                "TYPE", "NAME", "COUNT", "ERRORS", "PER SEC", "P50 ms", "P95 ms", "P99 ms", "MAX ms"));
+
+        JsonObject json = new JsonObject();
+        json.addProperty("virtualUsers", virtualUsers);
+        json.addProperty("rampUpSeconds", rampUpSeconds);
+        json.addProperty("durationSeconds", durationSeconds);
+        json.addProperty("elapsedSeconds", elapsedSeconds);
+        json.addProperty("scenarios", total);
+        json.addProperty("failedScenarios", failedIterations.get());
+        json.addProperty("throughputPerSecond", total / elapsedSeconds);
+        json.addProperty("errorRate", errorRate);
+        JsonArray entries = new JsonArray();
+        appendStats("scenario", LoadStatsPlugin.getScenarioStats(), elapsedSeconds, entries, text);
+        appendStats("step", LoadStatsPlugin.getStepStats(), elapsedSeconds, entries, text);
+        json.add("entries", entries);
+
+        System.out.print(text);
+        try {
+            Path jsonPath = Paths.get(JSON_REPORT);
+            Files.createDirectories(jsonPath.getParent());
+            Files.writeString(jsonPath, new GsonBuilder().setPrettyPrinting().create().toJson(json));
+            Files.writeString(Paths.get(TEXT_REPORT), text.toString());
+        } catch (IOException e) {
+            System.err.println("[LoadRunner] Failed to write load report: " + e.getMessage());
+        }
+    }
+
+    private static void appendStats(String type, Map<String, LoadStatsPlugin.Stats> stats, double elapsedSeconds,
+                                    JsonArray entries, StringBuilder text) {
+        for (Map.Entry<String, LoadStatsPlugin.Stats> entry : stats.entrySet()) {
+            LatencyHistogram histogram = entry.getValue().latencies();
+            long errors = entry.getValue().errors().sum();
+            JsonObject json = new JsonObject();
+            json.addProperty("type", type);
+            json.addProperty("name", entry.getKey());
+            json.addProperty("count", histogram.getCount());
+            json.addProperty("errors", errors);
+            json.addProperty("perSecond", histogram.getCount() / elapsedSeconds);
+            json.addProperty("p50Ms", histogram.getPercentileMillis(50));
+            json.addProperty("p95Ms", histogram.getPercentileMillis(95));
+            json.addProperty("p99Ms", histogram.getPercentileMillis(99));
+            json.addProperty("maxMs", histogram.getMaxMillis());
+            entries.add(json);
+
+            String name = entry.getKey().length() <= 60 ? entry.getKey() : entry.getKey().substring(0, 57) + "...";
+            text.append(String.format("%-8s %-60s %7d %7d %8.2f %10.1f %10.1f %10.1f %10.1f%n", type, name,
+                    histogram.getCount(), errors, histogram.getCount() / elapsedSeconds,
+                    histogram.getPercentileMillis(50), histogram.getPercentileMillis(95),
+                    histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.spurqlabs.tests;
+
+import java.util.List;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import com.spurqlabs.utils.ConfigReader;
+
+/**
+ * Applies the parallel thread count (or the adaptive upper bound) from config.json to the TestNG suite
+ * Registered in testng.xml, since alter-suite listeners are not picked up from annotations
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        // Under adaptive concurrency the pool is sized for the upper bound and the controller gates it
+        int threadCount = ConfigReader.isAdaptiveConcurrencyEnabled()
+                ? ConfigReader.getMaxWorkers() : ConfigReader.getThreadCount();
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(threadCount);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.spurqlabs.tests;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Merges the per-shard Cucumber JSON and JUnit XML reports into one set of reports.
+ *
+ * Usage: ReportMerger <outputDir> <shardReportDir>...
+ * Each shard directory holds that shard's cucumber.json and cucumber.xml.
+ */
+public class ReportMerger {
+    private static final String JSON_REPORT = "cucumber.json";
+    private static final String JUNIT_REPORT = "cucumber.xml";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ReportMerger <outputDir> <shardReportDir>...");
+            System.exit(2);
+        }
+        Path outputDir = Paths.get(args[0]);
+        Files.createDirectories(outputDir);
+
+        Map<String, JsonObject> features = new LinkedHashMap<>();
+        Document merged = null;
+        Element mergedSuite = null;
+        int tests = 0;
+        int failures = 0;
+        int errors = 0;
+        int skipped = 0;
+        double time = 0;
+
+        for (int i = 1; i < args.length; i++) {
+            Path shardDir = Paths.get(args[i]);
+            Path jsonReport = shardDir.resolve(JSON_REPORT);
+            if (Files.exists(jsonReport)) {
+                mergeFeatures(features, JsonParser.parseString(Files.readString(jsonReport)).getAsJsonArray());
+            }
+
+            File junitReport = shardDir.resolve(JUNIT_REPORT).toFile();
+            if (junitReport.exists()) {
+                Document shard = newBuilder().parse(junitReport);
+                Element suite = shard.getDocumentElement();
+                if (merged == null) {
+                    merged = newBuilder().newDocument();
+                    mergedSuite = (Element) merged.importNode(suite, false);
+                    merged.appendChild(mergedSuite);
+                }
+                tests += intAttribute(suite, "tests");
+                failures += intAttribute(suite, "failures");
+                errors += intAttribute(suite, "errors");
+                skipped += intAttribute(suite, "skipped");
+                time += suite.hasAttribute("time") ? Double.parseDouble(suite.getAttribute("time")) : 0;
+                NodeList children = suite.getChildNodes();
+                for (int c = 0; c < children.getLength(); c++) {
+                    Node child = children.item(c);
+                    if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().equals("testcase")) {
+                        mergedSuite.appendChild(merged.importNode(child, true));
+                    }
+                }
+            }
+        }
+
+        JsonArray mergedFeatures = new JsonArray();
+        features.values().forEach(mergedFeatures::add);
+        Files.writeString(outputDir.resolve(JSON_REPORT),
+                new GsonBuilder().setPrettyPrinting().create().toJson(mergedFeatures));
+
+        if (merged != null) {
+            mergedSuite.setAttribute("tests", String.valueOf(tests));
+            mergedSuite.setAttribute("failures", String.valueOf(failures));
+            mergedSuite.setAttribute("errors", String.valueOf(errors));
+            mergedSuite.setAttribute("skipped", String.valueOf(skipped));
+            mergedSuite.setAttribute("time", String.format(Locale.ROOT, "%.3f", time));
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.transform(new DOMSource(merged), new StreamResult(outputDir.resolve(JUNIT_REPORT).toFile()));
+        }
+        System.out.printf("[ReportMerger] Merged %d shard(s): %d features, %d test cases%n",
+                args.length - 1, features.size(), tests);
+    }
+
+    /**
+     * Features split across shards are merged by URI, keeping scenarios in line order. Cucumber writes
+     * a background element before every scenario, so each scenario moves together with its background.
+     */
+    private static void mergeFeatures(Map<String, JsonObject> features, JsonArray shardFeatures) {
+        for (JsonElement element : shardFeatures) {
+            JsonObject feature = element.getAsJsonObject();
+            String uri = feature.get("uri").getAsString();
+            JsonObject existing = features.get(uri);
+            if (existing == null) {
+                features.put(uri, feature);
+                continue;
+            }
+            List<List<JsonElement>> scenarios = groupByScenario(existing.getAsJsonArray("elements"));
+            scenarios.addAll(groupByScenario(feature.getAsJsonArray("elements")));
+            scenarios.sort(Comparator.comparingInt(group ->
+                    group.get(group.size() - 1).getAsJsonObject().get("line").getAsInt()));
+            JsonArray sorted = new JsonArray();
+            scenarios.forEach(group -> group.forEach(sorted::add));
+            existing.add("elements", sorted);
+        }
+    }
+
+    /**
+     * Split feature elements into scenarios, each preceded by the background elements written before it
+     */
+    private static List<List<JsonElement>> groupByScenario(JsonArray elements) {
+        List<List<JsonElement>> groups = new ArrayList<>();
+        List<JsonElement> current = new ArrayList<>();
+        for (JsonElement element : elements) {
+            current.add(element);
+            JsonElement type = element.getAsJsonObject().get("type");
+            if (type == null || !type.getAsString().equals("background")) {
+                groups.add(current);
+                current = new ArrayList<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private static int intAttribute(Element element, String name) {
+        return element.hasAttribute(name) ? Integer.parseInt(element.getAttribute(name)) : 0;
+    }
+
+    private static DocumentBuilder newBuilder() throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    }
+}
@@ -0,0 +1,98 @@
+package com.spurqlabs.tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.spurqlabs.utils.ConfigReader;
+
+import io.cucumber.testng.PickleWrapper;
+
+/**
+ * Orders scenarios from the run-history store: recently failed first, then flaky
+ * (both passed and failed within the recent runs), then the rest; longest first within each group.
+ */
+public class ScenarioScheduler {
+    private static final int RECENTLY_FAILED = 0;
+    private static final int FLAKY = 1;
+    private static final int STABLE = 2;
+
+    /**
+     * Outcomes and durations of one scenario's recent runs, oldest first
+     */
+    private record History(Deque<Boolean> passed, Deque<Long> millis) {
+    }
+
+    /**
+     * Reorder the data provider rows; returns them unchanged when scheduling is disabled
+     */
+    public static Object[][] order(Object[][] scenarios) {
+        if (!ConfigReader.isSchedulingEnabled()) {
+            return scenarios;
+        }
+        Map<String, History> histories = readHistory(Paths.get(ConfigReader.getRunHistoryPath()),
+                ConfigReader.getSchedulingHistoryRuns());
+        Object[][] ordered = scenarios.clone();
+        Arrays.sort(ordered, Comparator
+                .comparingInt((Object[] row) -> group(histories.get(key(row))))
+                .thenComparing(Comparator.comparingLong((Object[] row) -> meanMillis(histories.get(key(row)))).reversed()));
+        return ordered;
+    }
+
+    private static String key(Object[] row) {
+        return ShardPlanner.scenarioKey(((PickleWrapper) row[0]).getPickle());
+    }
+
+    private static int group(History history) {
+        if (history == null || history.passed().isEmpty()) {
+            return STABLE;
+        }
+        if (!history.passed().peekLast()) {
+            return RECENTLY_FAILED;
+        }
+        return history.passed().contains(false) ? FLAKY : STABLE;
+    }
+
+    private static long meanMillis(History history) {
+        return history == null || history.millis().isEmpty() ? 0
+                : history.millis().stream().mapToLong(Long::longValue).sum() / history.millis().size();
+    }
+
+    /**
+     * Read the last N outcomes and durations per scenario; skipped and undefined results are ignored
+     */
+    private static Map<String, History> readHistory(Path historyPath, int recentRuns) {
+        Map<String, History> histories = new HashMap<>();
+        if (!Files.exists(historyPath)) {
+            return histories;
+        }
+        try {
+            List<String> lines = Files.readAllLines(historyPath);
+            for (String line : lines) {
+                String[] fields = line.split("\t");
+                if (fields.length < 4 || !(fields[2].equals("PASSED") || fields[2].equals("FAILED"))) {
+                    continue;
+                }
+                History history = histories.computeIfAbsent(fields[1],
+                        key -> new History(new ArrayDeque<>(), new ArrayDeque<>()));
+                history.passed().addLast(fields[2].equals("PASSED"));
+                history.millis().addLast(Long.parseLong(fields[3]));
+                if (history.passed().size() > recentRuns) {
+                    history.passed().removeFirst();
+                    history.millis().removeFirst();
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("[ScenarioScheduler] Ignoring unreadable run history: " + e.getMessage());
+        }
+        return histories;
+    }
+}
@@ -0,0 +1,145 @@
+package com.spurqlabs.tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+
+/**
+ * Duration-aware sharding of scenarios across JVMs/machines.
+ * Historical durations come from the cucumber.json given by -Dshard.history; scenarios are packed into
+ * -Dshard.count shards longest-processing-time-first and -Dshard.index selects this JVM's shard.
+ * Without a history file the sorted scenarios are dealt round-robin. Every shard computes the same
+ * plan as long as all shards get the same history file, so no coordination is needed.
+ */
+public class ShardPlanner {
+
+    /**
+     * Keep only the scenarios of this JVM's shard; returns all scenarios when sharding is off
+     */
+    public static Object[][] select(Object[][] scenarios) {
+        int shardCount = Integer.getInteger("shard.count", 1);
+        int shardIndex = Integer.getInteger("shard.index", 0);
+        if (shardCount <= 1) {
+            return scenarios;
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (shardCount - 1));
+        }
+
+        // A per-agent default such as the local cucumber.json would give each shard a different plan
+        String history = System.getProperty("shard.history");
+        Map<String, Long> durations = history == null ? Map.of() : readDurations(Paths.get(history));
+        List<String> keys = new ArrayList<>();
+        for (Object[] scenario : scenarios) {
+            keys.add(scenarioKey(((PickleWrapper) scenario[0]).getPickle()));
+        }
+        List<List<String>> shards = plan(keys, durations, shardCount);
+
+        List<Object[]> selected = new ArrayList<>();
+        for (Object[] scenario : scenarios) {
+            if (shards.get(shardIndex).contains(scenarioKey(((PickleWrapper) scenario[0]).getPickle()))) {
+                selected.add(scenario);
+            }
+        }
+        System.out.printf("[ShardPlanner] Shard %d/%d runs %d of %d scenarios%n",
+                shardIndex + 1, shardCount, selected.size(), scenarios.length);
+        return selected.toArray(new Object[0][]);
+    }
+
+    /**
+     * Pack scenarios into shards with balanced runtime (LPT); unknown scenarios count as the average.
+     * With no durations at all every scenario weighs the same, so the sorted keys are dealt round-robin.
+     */
+    public static List<List<String>> plan(List<String> keys, Map<String, Long> durations, int shardCount) {
+        long average = (long) durations.values().stream().mapToLong(Long::longValue).average().orElse(1);
+        List<String> ordered = new ArrayList<>(keys);
+        ordered.sort(Comparator.<String>comparingLong(key -> durations.getOrDefault(key, average)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        List<List<String>> shards = new ArrayList<>();
+        long[] loads = new long[shardCount];
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(shard -> loads[shard]).thenComparingInt(shard -> shard));
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+            leastLoaded.add(i);
+        }
+        for (String key : ordered) {
+            int shard = leastLoaded.poll();
+            shards.get(shard).add(key);
+            loads[shard] += durations.getOrDefault(key, average);
+            leastLoaded.add(shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Read total duration (ns) per scenario from a Cucumber JSON report, keyed like {@link #scenarioKey}.
+     * A missing or unreadable report fails the run, since shards that fall back differently would
+     * drop or repeat scenarios.
+     */
+    public static Map<String, Long> readDurations(Path reportPath) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.exists(reportPath)) {
+            throw new IllegalArgumentException("Shard history " + reportPath + " does not exist");
+        }
+        try {
+            JsonArray features = JsonParser.parseString(Files.readString(reportPath)).getAsJsonArray();
+            for (JsonElement featureElement : features) {
+                JsonObject feature = featureElement.getAsJsonObject();
+                String fileName = fileName(feature.get("uri").getAsString());
+                for (JsonElement element : feature.getAsJsonArray("elements")) {
+                    JsonObject scenario = element.getAsJsonObject();
+                    if (!"scenario".equals(scenario.get("type").getAsString())) {
+                        continue;
+                    }
+                    long total = sumDurations(scenario, "before") + sumDurations(scenario, "steps")
+                            + sumDurations(scenario, "after");
+                    durations.put(fileName + ":" + scenario.get("line").getAsInt(), total);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Unreadable shard history " + reportPath + ": " + e.getMessage());
+        }
+        return durations;
+    }
+
+    /**
+     * Stable scenario identity across machines: feature file name and pickle line
+     */
+    public static String scenarioKey(Pickle pickle) {
+        return fileName(pickle.getUri().toString()) + ":" + pickle.getLine();
+    }
+
+    private static long sumDurations(JsonObject scenario, String field) {
+        long total = 0;
+        if (scenario.has(field)) {
+            for (JsonElement step : scenario.getAsJsonArray(field)) {
+                JsonObject result = step.getAsJsonObject().getAsJsonObject("result");
+                if (result != null && result.has("duration")) {
+                    total += result.get("duration").getAsLong();
+                }
+            }
+        }
+        return total;
+    }
+
+    private static String fileName(String uri) {
+        return uri.substring(uri.lastIndexOf('/') + 1);
+    }
+}
@@ -1,10 +1,24 @@
 package com.spurqlabs.tests;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.spurqlabs.utils.AdaptiveConcurrencyController;
+import com.spurqlabs.utils.ConfigReader;
+
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
 
 /**
  * TestNG Runner for Cucumber tests
+ * Scenarios are served through a parallel data provider; the worker count comes from
+ * config.json and is applied by {@link ParallelSuiteListener}. Recently failed and flaky
+ * scenarios run first, and the fail-fast cutoff skips the rest of a broken run.
  */
 @CucumberOptions(
     features = "src/test/resources/features",
@@ -14,9 +28,56 @@ import io.cucumber.testng.CucumberOptions;
         "pretty",
         "html:target/cucumber-reports/cucumber.html",
         "json:target/cucumber-reports/cucumber.json",
-        "junit:target/cucumber-reports/cucumber.xml"
+        "junit:target/cucumber-reports/cucumber.xml",
+        "com.spurqlabs.plugins.TimingPlugin",
+        "com.spurqlabs.plugins.RunHistoryPlugin"
     },
     monochrome = true
 )
 public class TestRunner extends AbstractTestNGCucumberTests {
+    private static final AtomicInteger failedScenarios = new AtomicInteger();
+
+    /**
+     * Run one scenario, skipping it once the fail-fast cutoff has been reached; under adaptive
+     * concurrency the scenario first waits for a worker slot
+     */
+    @Override
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarios")
+    public void runScenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) {
+        int failFast = ConfigReader.getFailFastThreshold();
+        if (failFast > 0 && failedScenarios.get() >= failFast) {
+            throw new SkipException("Skipped after " + failFast + " failed scenario(s) (fail-fast)");
+        }
+        boolean gated = ConfigReader.isAdaptiveConcurrencyEnabled();
+        if (gated) {
+            try {
+                AdaptiveConcurrencyController.getInstance().acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SkipException("Interrupted while waiting for a worker slot");
+            }
+        }
+        try {
+            super.runScenario(pickleWrapper, featureWrapper);
+        } catch (SkipException e) {
+            throw e;
+        } catch (Throwable e) {
+            failedScenarios.incrementAndGet();
+            throw e;
+        } finally {
+            if (gated) {
+                AdaptiveConcurrencyController.getInstance().release();
+            }
+        }
+    }
+
+    /**
+     * Run this JVM's shard of scenarios in parallel, one browser worker per data provider thread,
+     * ordered failure-first from the run history
+     */
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return ScenarioScheduler.order(ShardPlanner.select(super.scenarios()));
+    }
 }
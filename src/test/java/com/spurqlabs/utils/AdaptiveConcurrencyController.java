@@ -0,0 +1,264 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.sun.management.OperatingSystemMXBean;
+
+/**
+ * Adjusts how many scenarios run at once from what the environment under test and the host can take.
+ * Scenario workers pass through a resizable gate; every interval the controller looks at the p95 latency
+ * and error rate of navigations and XHRs, host CPU and free memory, and applies AIMD: one more worker
+ * when everything is healthy and workers are waiting, a multiplicative cut when any limit is exceeded.
+ * Decisions are appended to target/adaptive-concurrency.log.
+ */
+public class AdaptiveConcurrencyController {
+    private static final String LOG_PATH = "target/adaptive-concurrency.log";
+    private static final AdaptiveConcurrencyController instance = new AdaptiveConcurrencyController();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final Settings settings = Settings.load();
+    private int limit = Math.max(settings.minWorkers(), Math.min(settings.maxWorkers(), ConfigReader.getThreadCount()));
+    private int active;
+    private int waiting;
+
+    // Current measurement window, swapped out on every decision
+    private final AtomicReference<LatencyHistogram> latencies = new AtomicReference<>(new LatencyHistogram());
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Bounds and thresholds from the "adaptiveConcurrency" section of config.json
+     */
+    private record Settings(int minWorkers, int maxWorkers, int intervalSeconds, long latencyTargetMs,
+                            double maxErrorRate, double maxCpuLoad, long minFreeMemoryMb, double decreaseFactor) {
+
+        static Settings load() {
+            JsonObject section = ConfigReader.getSection("adaptiveConcurrency");
+            return new Settings(
+                    section.has("minWorkers") ? section.get("minWorkers").getAsInt() : 1,
+                    ConfigReader.getMaxWorkers(),
+                    section.has("intervalSeconds") ? section.get("intervalSeconds").getAsInt() : 10,
+                    section.has("latencyTargetMs") ? section.get("latencyTargetMs").getAsLong() : 2000,
+                    section.has("maxErrorRate") ? section.get("maxErrorRate").getAsDouble() : 0.05,
+                    section.has("maxCpuLoad") ? section.get("maxCpuLoad").getAsDouble() : 0.85,
+                    section.has("minFreeMemoryMb") ? section.get("minFreeMemoryMb").getAsLong() : 512,
+                    section.has("decreaseFactor") ? section.get("decreaseFactor").getAsDouble() : 0.5);
+        }
+    }
+
+    /**
+     * Get the process-wide controller
+     */
+    public static AdaptiveConcurrencyController getInstance() {
+        return instance;
+    }
+
+    /**
+     * Block until the current worker limit allows another scenario to run. A worker that has to wait
+     * because the limit was lowered below the running scenarios closes its idle warm browser first,
+     * so a decrease also frees the browser's memory; waiting at an unchanged limit keeps it warm.
+     */
+    public void acquire() throws InterruptedException {
+        startIfNeeded();
+        boolean overLimit;
+        lock.lock();
+        try {
+            if (active < limit) {
+                active++;
+                return;
+            }
+            overLimit = active > limit;
+        } finally {
+            lock.unlock();
+        }
+        if (overLimit) {
+            PlaywrightDriver.closeIdleBrowser();
+        }
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (active >= limit) {
+                    permitReleased.await();
+                }
+            } finally {
+                waiting--;
+            }
+            active++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return the permit of a finished scenario
+     */
+    public void release() {
+        lock.lock();
+        try {
+            active--;
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Measure navigation and XHR/fetch latency and failures of a scenario's context
+     */
+    public void observe(BrowserContext context) {
+        context.onRequestFinished(request -> {
+            if (isMeasured(request)) {
+                double responseEnd = request.timing().responseEnd;
+                if (responseEnd > 0) {
+                    latencies.get().recordNanos((long) (responseEnd * 1_000_000));
+                }
+                requests.incrementAndGet();
+            }
+        });
+        context.onResponse(response -> {
+            if (response.status() >= 500 && isMeasured(response.request())) {
+                errors.incrementAndGet();
+            }
+        });
+        context.onRequestFailed(request -> {
+            if (isMeasured(request)) {
+                requests.incrementAndGet();
+                errors.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Get the current worker limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isMeasured(Request request) {
+        String type = request.resourceType();
+        return type.equals("document") || type.equals("xhr") || type.equals("fetch");
+    }
+
+    private synchronized void startIfNeeded() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adaptive-concurrency");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Path path = Paths.get(LOG_PATH);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, "time\tlimit\tnext\tactive\twaiting\trequests\tp95Ms\terrorRate\tcpu\tfreeMemoryMb\treason"
+                    + System.lineSeparator());
+        } catch (IOException e) {
+            System.err.println("[AdaptiveConcurrency] Failed to create decision log: " + e.getMessage());
+        }
+        scheduler.scheduleAtFixedRate(this::adjust, settings.intervalSeconds(), settings.intervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Memory available to new processes: MemAvailable from /proc/meminfo, which counts reclaimable page
+     * cache, or the MXBean's free memory where /proc is not available
+     */
+    private static long availableMemoryMb(OperatingSystemMXBean os) {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/meminfo"))) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux, fall back to the MXBean
+        }
+        return os.getFreeMemorySize() / (1024 * 1024);
+    }
+
+    /**
+     * Evaluate the last window and apply an additive increase or multiplicative decrease
+     */
+    private void adjust() {
+        LatencyHistogram window = latencies.getAndSet(new LatencyHistogram());
+        long windowRequests = requests.getAndSet(0);
+        long windowErrors = errors.getAndSet(0);
+        double p95Ms = window.getCount() == 0 ? 0 : window.getPercentileMillis(95);
+        double errorRate = windowRequests == 0 ? 0 : (double) windowErrors / windowRequests;
+        OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        double cpu = os.getCpuLoad();
+        long freeMemoryMb = availableMemoryMb(os);
+
+        String reason;
+        int previous;
+        int next;
+        int blocked;
+        int running;
+        lock.lock();
+        try {
+            previous = limit;
+            blocked = waiting;
+            running = active;
+            if (p95Ms > settings.latencyTargetMs()) {
+                reason = "decrease: p95 latency above " + settings.latencyTargetMs() + " ms";
+            } else if (errorRate > settings.maxErrorRate()) {
+                reason = "decrease: error rate above " + settings.maxErrorRate();
+            } else if (cpu > settings.maxCpuLoad()) {
+                reason = "decrease: CPU load above " + settings.maxCpuLoad();
+            } else if (freeMemoryMb < settings.minFreeMemoryMb()) {
+                reason = "decrease: free memory below " + settings.minFreeMemoryMb() + " MB";
+            } else if (blocked > 0 && limit < settings.maxWorkers()) {
+                reason = "increase: healthy with waiting workers";
+            } else {
+                reason = "hold";
+            }
+            if (reason.startsWith("decrease")) {
+                limit = Math.max(settings.minWorkers(), (int) Math.floor(limit * settings.decreaseFactor()));
+            } else if (reason.startsWith("increase")) {
+                limit++;
+                permitReleased.signal();
+            }
+            next = limit;
+        } finally {
+            lock.unlock();
+        }
+        log(String.join("\t", Instant.now().toString(), String.valueOf(previous), String.valueOf(next),
+                String.valueOf(running), String.valueOf(blocked), String.valueOf(windowRequests),
+                String.format("%.0f", p95Ms), String.format("%.3f", errorRate), String.format("%.2f", cpu),
+                String.valueOf(freeMemoryMb), reason));
+    }
+
+    private void log(String line) {
+        try {
+            Files.writeString(Paths.get(LOG_PATH), line + System.lineSeparator(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("[AdaptiveConcurrency] Failed to log decision: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * Tracks the resources of one worker's reused browser and decides when it should be recycled.
+ * The Playwright driver process is found by diffing the JVM's child processes around
+ * {@link Playwright#create()}; the browser is every process below it. At each scenario boundary the
+ * sampler sums their RSS and CPU time from /proc, counts open contexts, and asks for a recycle after
+ * the configured number of scenarios, when RSS exceeds its limit, or when CPU stays above its limit.
+ * Recycling waits until every context of the browser is closed. Samples are appended to
+ * target/browser-resources.log; on other platforms only the scenario count applies.
+ */
+public class BrowserResourceSampler {
+    private static final String LOG_PATH = "target/browser-resources.log";
+    private static final Path PROC = Paths.get("/proc");
+    // USER_HZ, the unit of utime/stime in /proc/<pid>/stat, is 100 on every mainstream Linux build
+    private static final double CLOCK_TICKS_PER_SECOND = 100;
+    private static final Object launchLock = new Object();
+    private static final Object logLock = new Object();
+    private static final AtomicInteger generations = new AtomicInteger();
+    private static final Map<String, LongAdder> recyclesByReason = new ConcurrentHashMap<>();
+    private static volatile boolean logStarted;
+
+    private final Settings settings = Settings.load();
+    private final long driverPid;
+    private final int generation = generations.incrementAndGet();
+    private int scenarios;
+    private int cpuBreaches;
+    private long lastCpuTicks;
+    private long lastSampleNanos = System.nanoTime();
+    private String pendingReason;
+
+    /**
+     * Recycle limits from the "browserRecycling" section of config.json
+     */
+    private record Settings(int maxScenarios, long maxRssMb, double maxCpuPercent, int cpuBreachSamples) {
+
+        static Settings load() {
+            JsonObject section = ConfigReader.getSection("browserRecycling");
+            return new Settings(
+                    section.has("maxScenarios") ? section.get("maxScenarios").getAsInt() : 50,
+                    section.has("maxRssMb") ? section.get("maxRssMb").getAsLong() : 1024,
+                    section.has("maxCpuPercent") ? section.get("maxCpuPercent").getAsDouble() : 90,
+                    section.has("cpuBreachSamples") ? section.get("cpuBreachSamples").getAsInt() : 3);
+        }
+    }
+
+    /**
+     * Resource usage of the browser processes at one scenario boundary
+     */
+    public record Sample(int processes, long rssKb, double cpuPercent, int openContexts) {
+    }
+
+    /**
+     * A Playwright instance with the PID of the driver process it started, or -1 when unknown
+     */
+    public record TrackedPlaywright(Playwright playwright, long driverPid) {
+    }
+
+    private BrowserResourceSampler(long driverPid) {
+        this.driverPid = driverPid;
+        this.lastCpuTicks = readTree().cpuTicks();
+    }
+
+    /**
+     * Create a Playwright instance and find its driver process. Creation is serialized so the
+     * child process that appears belongs to this call.
+     */
+    public static TrackedPlaywright createPlaywright() {
+        synchronized (launchLock) {
+            Set<Long> before = childPids();
+            Playwright instance = Playwright.create();
+            Optional<Long> started = childPids().stream().filter(pid -> !before.contains(pid)).findFirst();
+            return new TrackedPlaywright(instance, started.orElse(-1L));
+        }
+    }
+
+    /**
+     * Start sampling the browser launched by the given driver process
+     */
+    public static BrowserResourceSampler start(long driverPid) {
+        return new BrowserResourceSampler(driverPid);
+    }
+
+    /**
+     * Sample the browser after a scenario finished; returns the recycle reason, or null to keep it.
+     * A browser that still has open contexts is never recycled, the request is kept for the next boundary.
+     */
+    public String scenarioFinished(Browser browser) {
+        scenarios++;
+        Sample sample = sample(browser);
+        log(sample);
+
+        if (pendingReason == null) {
+            if (scenarios >= settings.maxScenarios()) {
+                pendingReason = "scenarios";
+            } else if (sample.rssKb() > settings.maxRssMb() * 1024) {
+                pendingReason = "rss";
+            } else if (cpuBreaches >= settings.cpuBreachSamples()) {
+                pendingReason = "cpu";
+            }
+        }
+        if (pendingReason == null || sample.openContexts() > 0) {
+            return null;
+        }
+        // The sample is in the resource log and the count in the end-of-run recycle report
+        recyclesByReason.computeIfAbsent(pendingReason, key -> new LongAdder()).increment();
+        return pendingReason;
+    }
+
+    /**
+     * Get the number of recycles per reason
+     */
+    public static Map<String, Long> getRecycles() {
+        Map<String, Long> recycles = new TreeMap<>();
+        recyclesByReason.forEach((reason, count) -> recycles.put(reason, count.sum()));
+        return recycles;
+    }
+
+    /**
+     * Summarize recycles for the launch report
+     */
+    public static String getRecycleReport() {
+        Map<String, Long> recycles = getRecycles();
+        long total = recycles.values().stream().mapToLong(Long::longValue).sum();
+        return recycles.isEmpty() ? "Browser recycles: 0" : String.format("Browser recycles: %d %s", total, recycles);
+    }
+
+    private Sample sample(Browser browser) {
+        ProcessTree tree = readTree();
+        long now = System.nanoTime();
+        double seconds = (now - lastSampleNanos) / 1_000_000_000.0;
+        // Helper processes that exited take their CPU time with them, so the delta is clamped at zero
+        double cpuPercent = seconds <= 0 ? 0
+                : Math.max(0, tree.cpuTicks() - lastCpuTicks) / CLOCK_TICKS_PER_SECOND / seconds * 100;
+        lastCpuTicks = tree.cpuTicks();
+        lastSampleNanos = now;
+        cpuBreaches = cpuPercent > settings.maxCpuPercent() ? cpuBreaches + 1 : 0;
+        return new Sample(tree.processes(), tree.rssKb(), cpuPercent, browser.contexts().size());
+    }
+
+    private record ProcessTree(int processes, long rssKb, long cpuTicks) {
+    }
+
+    /**
+     * Sum RSS and CPU time of every process started by the driver, i.e. the browser and its helpers
+     */
+    private ProcessTree readTree() {
+        if (driverPid < 0 || !Files.isDirectory(PROC)) {
+            return new ProcessTree(0, 0, 0);
+        }
+        List<Long> pids = ProcessHandle.of(driverPid).stream()
+                .flatMap(ProcessHandle::descendants)
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toList());
+        long rssKb = 0;
+        long cpuTicks = 0;
+        for (long pid : pids) {
+            rssKb += readRssKb(pid);
+            cpuTicks += readCpuTicks(pid);
+        }
+        return new ProcessTree(pids.size(), rssKb, cpuTicks);
+    }
+
+    private static long readRssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(pid + "/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Process exited between listing and reading
+        }
+        return 0;
+    }
+
+    private static long readCpuTicks(long pid) {
+        try {
+            String stat = Files.readString(PROC.resolve(pid + "/stat"));
+            // The command name may contain spaces, so fields are counted from its closing parenthesis
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static Set<Long> childPids() {
+        return ProcessHandle.current().children().map(ProcessHandle::pid).collect(Collectors.toSet());
+    }
+
+    private void log(Sample sample) {
+        String line = String.join("\t", Instant.now().toString(), Thread.currentThread().getName(),
+                String.valueOf(generation), String.valueOf(driverPid), String.valueOf(scenarios),
+                String.valueOf(sample.processes()), String.valueOf(sample.rssKb() / 1024), String.format("%.1f", sample.cpuPercent()),
+                String.valueOf(sample.openContexts()));
+        try {
+            Path path = Paths.get(LOG_PATH);
+            synchronized (logLock) {
+                if (!logStarted) {
+                    Files.createDirectories(path.getParent());
+                    Files.writeString(path, "time\tworker\tbrowser\tdriverPid\tscenarios\tprocesses\trssMb\tcpuPercent\topenContexts"
+                            + System.lineSeparator());
+                    logStarted = true;
+                }
+                Files.writeString(path, line + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            System.err.println("[BrowserResourceSampler] Failed to write resource log: " + e.getMessage());
+        }
+    }
+}
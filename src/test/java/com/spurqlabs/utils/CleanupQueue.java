@@ -0,0 +1,190 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * Deletes employees created by scenarios outside the scenario's critical path. Steps register what
+ * they create; a daemon worker with its own Playwright instance deletes them in batches through the
+ * PIM API, authenticated with the session cached by {@link SessionCache}, or with the storage state
+ * of the registering scenario when the session cache is disabled. {@link #flush()} at suite end drains
+ * the queue and writes a report of everything that could not be removed.
+ */
+public class CleanupQueue {
+    private static final String CREDENTIAL_KEY = "validCredentials";
+    private static final String REPORT_PATH = "target/cleanup-report.txt";
+
+    private static final BlockingQueue<Entry> pending = new LinkedBlockingQueue<>();
+    private static final Map<Integer, String> failed = new ConcurrentHashMap<>();
+    private static final AtomicLong deleted = new AtomicLong();
+    private static volatile boolean stopping;
+    // Storage state of the last registering scenario, used when there is no cached session file
+    private static volatile String registeredState;
+    private static Thread worker;
+
+    /**
+     * An employee to delete and a description for the report
+     */
+    private record Entry(int empNumber, String description) {
+    }
+
+    /**
+     * Queue a created employee for deletion; starts the background worker on first use
+     */
+    public static void register(int empNumber, String description) {
+        if (!ConfigReader.isCleanupEnabled()) {
+            return;
+        }
+        if (!ConfigReader.isSessionCacheEnabled()) {
+            registeredState = PlaywrightDriver.getContext().storageState();
+        }
+        pending.add(new Entry(empNumber, description));
+        startWorker();
+    }
+
+    /**
+     * Stop the worker after it has drained the queue, then write the cleanup report
+     */
+    public static void flush() {
+        Thread running;
+        synchronized (CleanupQueue.class) {
+            running = worker;
+            stopping = true;
+        }
+        if (running != null) {
+            try {
+                running.join(TimeUnit.SECONDS.toMillis(ConfigReader.getCleanupFlushTimeoutSeconds()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Anything still queued was not reached before the timeout
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            failed.put(entry.empNumber(), entry.description() + " (not processed before flush timeout)");
+        }
+        writeReport();
+        // Ready for another run in the same JVM (dev daemon), unless the old worker is still stuck
+        synchronized (CleanupQueue.class) {
+            if (running == null || !running.isAlive()) {
+                worker = null;
+                stopping = false;
+            }
+            deleted.set(0);
+            failed.clear();
+        }
+    }
+
+    private static synchronized void startWorker() {
+        if (worker != null || stopping) {
+            return;
+        }
+        worker = new Thread(CleanupQueue::run, "employee-cleanup");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Worker loop: collect a batch, delete it, repeat until stopped and the queue is empty
+     */
+    private static void run() {
+        try (Playwright playwright = Playwright.create()) {
+            while (!stopping || !pending.isEmpty()) {
+                Entry first = pending.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Entry> batch = new ArrayList<>();
+                batch.add(first);
+                pending.drainTo(batch, ConfigReader.getCleanupBatchSize() - 1);
+                try {
+                    deleteBatch(playwright, batch);
+                } catch (RuntimeException e) {
+                    // Keep going with the next batch; these entries end up in the report
+                    System.err.println("[CleanupQueue] Batch of " + batch.size() + " failed: " + e.getMessage());
+                    batch.forEach(entry -> failed.put(entry.empNumber(), entry.description() + " (" + e.getMessage() + ")"));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Playwright itself could not start; nothing queued can be deleted
+            System.err.println("[CleanupQueue] Worker stopped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Delete a batch in one request; if that fails, retry one by one to find the entries that cannot be removed
+     */
+    private static void deleteBatch(Playwright playwright, List<Entry> batch) {
+        // A fresh request context per batch picks up a session refreshed by the scenarios
+        APIRequestContext request = newRequestContext(playwright);
+        try {
+            EmployeeApiClient client = new EmployeeApiClient(request, ConfigReader.getBaseUrl());
+            try {
+                List<Integer> removed = client.delete(batch.stream().map(Entry::empNumber).toList());
+                for (Entry entry : batch) {
+                    if (removed.contains(entry.empNumber())) {
+                        deleted.incrementAndGet();
+                    } else {
+                        failed.put(entry.empNumber(), entry.description() + " (not found)");
+                    }
+                }
+            } catch (RuntimeException batchError) {
+                for (Entry entry : batch) {
+                    try {
+                        client.delete(List.of(entry.empNumber()));
+                        deleted.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.put(entry.empNumber(), entry.description() + " (" + e.getMessage() + ")");
+                    }
+                }
+            }
+        } finally {
+            request.dispose();
+        }
+    }
+
+    private static APIRequestContext newRequestContext(Playwright playwright) {
+        APIRequest.NewContextOptions options = new APIRequest.NewContextOptions()
+                .setTimeout(ConfigReader.getTimeout());
+        Path statePath = SessionCache.getStatePath(CREDENTIAL_KEY);
+        if (ConfigReader.isSessionCacheEnabled() && Files.exists(statePath)) {
+            options.setStorageStatePath(statePath);
+        } else if (registeredState != null) {
+            options.setStorageState(registeredState);
+        }
+        return playwright.request().newContext(options);
+    }
+
+    /**
+     * Print and write how many employees were deleted and which could not be removed
+     */
+    private static void writeReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Deleted: %d, not removed: %d", deleted.get(), failed.size()));
+        failed.forEach((empNumber, reason) -> lines.add("empNumber " + empNumber + ": " + reason));
+        System.out.println("[CleanupQueue] " + lines.get(0));
+        try {
+            Path path = Paths.get(REPORT_PATH);
+            Files.createDirectories(path.getParent());
+            Files.write(path, lines);
+        } catch (IOException e) {
+            System.err.println("[CleanupQueue] Failed to write cleanup report: " + e.getMessage());
+        }
+    }
+}
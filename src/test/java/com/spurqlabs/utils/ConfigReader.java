@@ -1,8 +1,12 @@
 package com.spurqlabs.utils;
 
 import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 /**
@@ -38,9 +42,12 @@ public class ConfigReader {
     }
 
     /**
-     * Get base URL from config
+     * Get base URL from config, or the embedded local server's URL when it is enabled
      */
     public static String getBaseUrl() {
+        if (isLocalServerEnabled()) {
+            return LocalOrangeHrmServer.start().getBaseUrl();
+        }
         return config.get("baseUrl").getAsString();
     }
 
@@ -52,17 +59,18 @@ public class ConfigReader {
     }
 
     /**
-     * Get headless mode setting
+     * Get headless mode setting (-Dheadless overrides config)
      */
     public static boolean isHeadless() {
-        return config.get("headless").getAsBoolean();
+        String override = System.getProperty("headless");
+        return override != null ? Boolean.parseBoolean(override) : config.get("headless").getAsBoolean();
     }
 
     /**
-     * Get browser type from config
+     * Get browser type from config (-Dbrowser overrides config)
      */
     public static String getBrowser() {
-        return config.get("browser").getAsString();
+        return System.getProperty("browser", config.get("browser").getAsString());
     }
 
     /**
@@ -71,4 +79,384 @@ public class ConfigReader {
     public static int getSlowMo() {
         return config.has("slowMo") ? config.get("slowMo").getAsInt() : 0;
     }
+
+    /**
+     * Get viewport width
+     */
+    public static int getViewportWidth() {
+        JsonObject viewport = getSection("viewport");
+        return viewport.has("width") ? viewport.get("width").getAsInt() : 1920;
+    }
+
+    /**
+     * Get viewport height
+     */
+    public static int getViewportHeight() {
+        JsonObject viewport = getSection("viewport");
+        return viewport.has("height") ? viewport.get("height").getAsInt() : 1080;
+    }
+
+    /**
+     * Check if scenarios run in parallel on a pool of browser workers
+     */
+    public static boolean isParallel() {
+        JsonObject parallel = getSection("parallel");
+        return parallel.has("enabled") && parallel.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get number of parallel worker threads (1 when parallel mode is disabled)
+     */
+    public static int getThreadCount() {
+        JsonObject parallel = getSection("parallel");
+        if (!isParallel() || !parallel.has("threadCount")) {
+            return 1;
+        }
+        return Math.max(1, parallel.get("threadCount").getAsInt());
+    }
+
+    /**
+     * Get browser lifecycle: "scenario" relaunches the browser per scenario, "jvm" keeps it for the whole run
+     */
+    public static String getBrowserLifecycle() {
+        return config.has("browserLifecycle") ? config.get("browserLifecycle").getAsString() : "scenario";
+    }
+
+    /**
+     * Check if the Playwright/Browser pair outlives a scenario (always true in parallel pool mode)
+     */
+    public static boolean isBrowserReused() {
+        return isParallel() || "jvm".equalsIgnoreCase(getBrowserLifecycle()) || isDevDaemon() || isLoadMode();
+    }
+
+    /**
+     * Check if running under the load runner, where many Cucumber runs share browsers and tear down once
+     */
+    public static boolean isLoadMode() {
+        return Boolean.getBoolean("loadMode");
+    }
+
+    /**
+     * Check if running inside the dev daemon, which keeps browsers and servers warm between runs
+     */
+    public static boolean isDevDaemon() {
+        return Boolean.getBoolean("devDaemon");
+    }
+
+    /**
+     * Check if authenticated sessions are cached between scenarios
+     */
+    public static boolean isSessionCacheEnabled() {
+        JsonObject sessionCache = getSection("sessionCache");
+        return sessionCache.has("enabled") && sessionCache.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get how long a cached session stays valid, in minutes
+     */
+    public static long getSessionTtlMinutes() {
+        JsonObject sessionCache = getSection("sessionCache");
+        return sessionCache.has("ttlMinutes") ? sessionCache.get("ttlMinutes").getAsLong() : 30;
+    }
+
+    /**
+     * Get directory holding cached storage state files
+     */
+    public static String getSessionCacheDirectory() {
+        JsonObject sessionCache = getSection("sessionCache");
+        return sessionCache.has("directory") ? sessionCache.get("directory").getAsString() : "target/auth";
+    }
+
+    /**
+     * Check if cached test data files are re-parsed when their modification time changes
+     */
+    public static boolean isTestDataReloadEnabled() {
+        JsonObject testData = getSection("testData");
+        return testData.has("reloadOnChange") && testData.get("reloadOnChange").getAsBoolean();
+    }
+
+    /**
+     * Check if the network route layer (blocking and static asset cache) is installed on new contexts
+     */
+    public static boolean isNetworkInterceptionEnabled() {
+        JsonObject network = getSection("network");
+        return network.has("enabled") && network.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get resource types to abort, e.g. "image", "font", "media"
+     */
+    public static List<String> getBlockedResourceTypes() {
+        return getStringList(getSection("network"), "blockResourceTypes");
+    }
+
+    /**
+     * Get host suffixes to abort, e.g. analytics providers
+     */
+    public static List<String> getBlockedHosts() {
+        return getStringList(getSection("network"), "blockHosts");
+    }
+
+    /**
+     * Check if immutable static assets are served from the on-disk cache
+     */
+    public static boolean isStaticCacheEnabled() {
+        JsonObject staticCache = getStaticCacheSection();
+        return staticCache.has("enabled") && staticCache.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get directory of the shared static asset cache
+     */
+    public static String getStaticCacheDirectory() {
+        JsonObject staticCache = getStaticCacheSection();
+        return staticCache.has("directory") ? staticCache.get("directory").getAsString() : "target/asset-cache";
+    }
+
+    /**
+     * Get URL path extensions treated as immutable static assets
+     */
+    public static List<String> getStaticCacheExtensions() {
+        return getStringList(getStaticCacheSection(), "extensions");
+    }
+
+    /**
+     * Get the shortest Cache-Control max-age (in seconds) a static asset needs to be cached; immutable
+     * assets always qualify
+     */
+    public static long getStaticCacheMinMaxAgeSeconds() {
+        JsonObject staticCache = getStaticCacheSection();
+        return staticCache.has("minMaxAgeSeconds") ? staticCache.get("minMaxAgeSeconds").getAsLong() : 86400;
+    }
+
+    private static JsonObject getStaticCacheSection() {
+        JsonObject network = getSection("network");
+        return network.has("staticCache") ? network.getAsJsonObject("staticCache") : new JsonObject();
+    }
+
+    /**
+     * Get a string array field of a configuration section, or an empty list
+     */
+    private static List<String> getStringList(JsonObject section, String field) {
+        List<String> values = new ArrayList<>();
+        if (section.has(field)) {
+            JsonArray array = section.getAsJsonArray(field);
+            for (JsonElement element : array) {
+                values.add(element.getAsString());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Check if runs target the embedded local OrangeHRM server (-DlocalServer overrides config)
+     */
+    public static boolean isLocalServerEnabled() {
+        String override = System.getProperty("localServer");
+        if (override != null) {
+            return Boolean.parseBoolean(override);
+        }
+        JsonObject localServer = getSection("localServer");
+        return localServer.has("enabled") && localServer.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get port of the embedded local server (0 picks a free port)
+     */
+    public static int getLocalServerPort() {
+        JsonObject localServer = getSection("localServer");
+        return localServer.has("port") ? localServer.get("port").getAsInt() : 0;
+    }
+
+    /**
+     * Get HAR mode: "off", "record" or "replay" (-Dhar overrides config)
+     */
+    public static String getHarMode() {
+        JsonObject har = getSection("har");
+        return System.getProperty("har", har.has("mode") ? har.get("mode").getAsString() : "off").toLowerCase();
+    }
+
+    /**
+     * Get directory holding per-scenario HAR recordings
+     */
+    public static String getHarDirectory() {
+        JsonObject har = getSection("har");
+        return har.has("directory") ? har.get("directory").getAsString() : "src/test/resources/har";
+    }
+
+    /**
+     * Check if scenarios are ordered failure-first from the run history
+     */
+    public static boolean isSchedulingEnabled() {
+        JsonObject scheduling = getSection("scheduling");
+        return scheduling.has("enabled") && scheduling.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get path of the append-only run-history store
+     */
+    public static String getRunHistoryPath() {
+        JsonObject scheduling = getSection("scheduling");
+        return scheduling.has("historyFile") ? scheduling.get("historyFile").getAsString() : "target/run-history.log";
+    }
+
+    /**
+     * Get number of recent runs per scenario considered when detecting failing and flaky scenarios
+     */
+    public static int getSchedulingHistoryRuns() {
+        JsonObject scheduling = getSection("scheduling");
+        return scheduling.has("historyRuns") ? scheduling.get("historyRuns").getAsInt() : 10;
+    }
+
+    /**
+     * Get number of failed scenarios after which the rest are skipped; 0 disables (-DfailFast overrides config)
+     */
+    public static int getFailFastThreshold() {
+        JsonObject scheduling = getSection("scheduling");
+        int configured = scheduling.has("failFast") ? scheduling.get("failFast").getAsInt() : 0;
+        return Integer.getInteger("failFast", configured);
+    }
+
+    /**
+     * Check if transient page-object failures are retried (-Dretry overrides config)
+     */
+    public static boolean isRetryEnabled() {
+        JsonObject retry = getSection("retry");
+        boolean configured = retry.has("enabled") && retry.get("enabled").getAsBoolean();
+        String override = System.getProperty("retry");
+        return override != null ? Boolean.parseBoolean(override) : configured;
+    }
+
+    /**
+     * Get fully qualified exception types that are retried
+     */
+    public static List<String> getRetryableExceptions() {
+        List<String> configured = getStringList(getSection("retry"), "retryOn");
+        return configured.isEmpty() ? List.of("com.microsoft.playwright.TimeoutError") : configured;
+    }
+
+    /**
+     * Check if employees created by scenarios are deleted in the background
+     */
+    public static boolean isCleanupEnabled() {
+        JsonObject cleanup = getSection("cleanup");
+        return cleanup.has("enabled") && cleanup.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get maximum number of employees deleted per API call
+     */
+    public static int getCleanupBatchSize() {
+        JsonObject cleanup = getSection("cleanup");
+        return cleanup.has("batchSize") ? cleanup.get("batchSize").getAsInt() : 20;
+    }
+
+    /**
+     * Get how long the suite-end flush waits for the cleanup worker
+     */
+    public static int getCleanupFlushTimeoutSeconds() {
+        JsonObject cleanup = getSection("cleanup");
+        return cleanup.has("flushTimeoutSeconds") ? cleanup.get("flushTimeoutSeconds").getAsInt() : 60;
+    }
+
+    /**
+     * Check if traces and a timeline are kept in memory and saved for failed scenarios
+     */
+    public static boolean isFailureCaptureEnabled() {
+        JsonObject failureCapture = getSection("failureCapture");
+        // Tracing every load iteration would distort the latencies being measured
+        return !isLoadMode() && failureCapture.has("enabled") && failureCapture.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Check if failure capture includes a Playwright trace (-Dfailure.trace overrides config).
+     * Off by default: tracing writes screenshots and snapshots for every scenario, passing or not.
+     */
+    public static boolean isFailureTraceEnabled() {
+        JsonObject failureCapture = getSection("failureCapture");
+        boolean configured = failureCapture.has("trace") && failureCapture.get("trace").getAsBoolean();
+        String override = System.getProperty("failure.trace");
+        return override != null ? Boolean.parseBoolean(override) : configured;
+    }
+
+    /**
+     * Get number of timeline entries kept per scenario
+     */
+    public static int getFailureCaptureBufferSize() {
+        JsonObject failureCapture = getSection("failureCapture");
+        return failureCapture.has("bufferSize") ? failureCapture.get("bufferSize").getAsInt() : 200;
+    }
+
+    /**
+     * Get directory failed scenarios are captured to
+     */
+    public static String getFailureCaptureDirectory() {
+        JsonObject failureCapture = getSection("failureCapture");
+        return failureCapture.has("directory") ? failureCapture.get("directory").getAsString() : "target/failures";
+    }
+
+    /**
+     * Check if the number of concurrently running scenarios adapts to latency, errors and host load
+     */
+    public static boolean isAdaptiveConcurrencyEnabled() {
+        JsonObject adaptive = getSection("adaptiveConcurrency");
+        return isParallel() && adaptive.has("enabled") && adaptive.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get upper bound of concurrently running scenarios under adaptive concurrency
+     */
+    public static int getMaxWorkers() {
+        JsonObject adaptive = getSection("adaptiveConcurrency");
+        return adaptive.has("maxWorkers") ? adaptive.get("maxWorkers").getAsInt() : getThreadCount();
+    }
+
+    /**
+     * Check if Web Vitals observers are injected into every page
+     */
+    public static boolean isPerformanceProbeEnabled() {
+        JsonObject performance = getSection("performance");
+        return performance.has("enabled") && performance.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get allowed slowdown against the performance baseline, in percent
+     */
+    public static double getPerformanceRegressionTolerancePercent() {
+        JsonObject performance = getSection("performance");
+        return performance.has("regressionTolerancePercent")
+                ? performance.get("regressionTolerancePercent").getAsDouble() : 20;
+    }
+
+    /**
+     * Get path of the performance trend file
+     */
+    public static String getPerformanceTrendFile() {
+        JsonObject performance = getSection("performance");
+        return performance.has("trendFile") ? performance.get("trendFile").getAsString() : "target/perf-trend.jsonl";
+    }
+
+    /**
+     * Get path of the stored performance baseline
+     */
+    public static String getPerformanceBaselineFile() {
+        JsonObject performance = getSection("performance");
+        return performance.has("baselineFile")
+                ? performance.get("baselineFile").getAsString() : "src/test/resources/perf/baseline.json";
+    }
+
+    /**
+     * Check if reused browsers are sampled and recycled after N scenarios or on resource thresholds
+     */
+    public static boolean isBrowserRecyclingEnabled() {
+        JsonObject recycling = getSection("browserRecycling");
+        return isBrowserReused() && recycling.has("enabled") && recycling.get("enabled").getAsBoolean();
+    }
+
+    /**
+     * Get a nested configuration section, or an empty object when it is not defined
+     */
+    public static JsonObject getSection(String name) {
+        return config.has(name) ? config.getAsJsonObject(name) : new JsonObject();
+    }
 }
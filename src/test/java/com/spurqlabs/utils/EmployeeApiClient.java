@@ -0,0 +1,145 @@
+package com.spurqlabs.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.options.RequestOptions;
+import com.spurqlabs.models.Employee;
+import com.spurqlabs.models.EmployeeRecord;
+
+/**
+ * HTTP client for the OrangeHRM PIM employee endpoints, built on Playwright's APIRequestContext.
+ * A client created for the current session shares cookies with the scenario's browser context,
+ * so it is authenticated as soon as the UI is.
+ */
+public class EmployeeApiClient {
+    private static final String EMPLOYEES_PATH = "/web/index.php/api/v2/pim/employees";
+    private static final Gson GSON = new Gson();
+    private static final int PAGE_SIZE = 50;
+    // Query parameters of the employee list API, matching the PIM search form fields
+    public static final String FILTER_NAME_OR_ID = "nameOrId";
+    public static final String FILTER_EMPLOYEE_ID = "employeeId";
+
+    private final APIRequestContext request;
+    private final String baseUrl;
+
+    public EmployeeApiClient(APIRequestContext request, String baseUrl) {
+        this.request = request;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Create a client that reuses the authenticated session of the current thread's browser context
+     */
+    public static EmployeeApiClient forCurrentSession() {
+        return new EmployeeApiClient(PlaywrightDriver.getContext().request(), ConfigReader.getBaseUrl());
+    }
+
+    /**
+     * Create an employee; "AUTO" or an empty employeeId lets the application generate one
+     */
+    public EmployeeRecord create(Employee employee) {
+        JsonObject body = new JsonObject();
+        body.addProperty("firstName", employee.firstName());
+        body.addProperty("middleName", employee.middleName() == null ? "" : employee.middleName());
+        body.addProperty("lastName", employee.lastName());
+        String employeeId = employee.employeeId();
+        if (employeeId != null && !employeeId.isEmpty() && !employeeId.equalsIgnoreCase("AUTO")) {
+            body.addProperty("employeeId", employeeId);
+        }
+        APIResponse response = request.post(baseUrl + EMPLOYEES_PATH, jsonOptions(body));
+        return GSON.fromJson(readData(response, "create employee"), EmployeeRecord.class);
+    }
+
+    /**
+     * Search employees by full/partial name or employee id, the same filter as the PIM search form
+     */
+    public List<EmployeeRecord> findByNameOrId(String nameOrId) {
+        return search(nameOrId, PAGE_SIZE, 0);
+    }
+
+    /**
+     * Get one page of employees matching the name or employee id filter
+     */
+    public List<EmployeeRecord> search(String nameOrId, int limit, int offset) {
+        return search(FILTER_NAME_OR_ID, nameOrId, limit, offset);
+    }
+
+    /**
+     * Get one page of employees matching a list filter, e.g. FILTER_EMPLOYEE_ID for an exact Employee Id
+     */
+    public List<EmployeeRecord> search(String filter, String value, int limit, int offset) {
+        APIResponse response = request.get(baseUrl + EMPLOYEES_PATH, RequestOptions.create()
+                .setQueryParam(filter, value)
+                .setQueryParam("limit", limit)
+                .setQueryParam("offset", offset)
+                .setTimeout(ConfigReader.getTimeout()));
+        return parseEmployees(readData(response, "search employees"));
+    }
+
+    /**
+     * Page through the filtered results from an offset until an employee matches; stops at the first short page
+     */
+    public Optional<EmployeeRecord> scan(String filter, String value, int fromOffset, Predicate<EmployeeRecord> match) {
+        for (int offset = fromOffset; ; offset += PAGE_SIZE) {
+            List<EmployeeRecord> page = search(filter, value, PAGE_SIZE, offset);
+            Optional<EmployeeRecord> found = page.stream().filter(match).findFirst();
+            if (found.isPresent() || page.size() < PAGE_SIZE) {
+                return found;
+            }
+        }
+    }
+
+    /**
+     * Map the "data" array of a list response to employee records
+     */
+    public static List<EmployeeRecord> parseEmployees(JsonElement data) {
+        List<EmployeeRecord> employees = new ArrayList<>();
+        for (JsonElement element : data.getAsJsonArray()) {
+            employees.add(GSON.fromJson(element, EmployeeRecord.class));
+        }
+        return employees;
+    }
+
+    /**
+     * Delete employees by empNumber and return the empNumbers the application actually deleted
+     */
+    public List<Integer> delete(List<Integer> empNumbers) {
+        if (empNumbers.isEmpty()) {
+            return List.of();
+        }
+        APIResponse response = request.delete(baseUrl + EMPLOYEES_PATH,
+                jsonOptions(GSON.toJsonTree(Map.of("ids", empNumbers))));
+        List<Integer> deleted = new ArrayList<>();
+        for (JsonElement id : readData(response, "delete employees").getAsJsonArray()) {
+            deleted.add(id.getAsInt());
+        }
+        return deleted;
+    }
+
+    private RequestOptions jsonOptions(JsonElement body) {
+        return RequestOptions.create()
+                .setHeader("Content-Type", "application/json")
+                .setData(GSON.toJson(body))
+                .setTimeout(ConfigReader.getTimeout());
+    }
+
+    /**
+     * Unwrap the "data" element of an API response, failing with the status and body otherwise
+     */
+    private JsonElement readData(APIResponse response, String action) {
+        if (!response.ok()) {
+            throw new RuntimeException("Failed to " + action + ": HTTP " + response.status() + " " + response.text());
+        }
+        return JsonParser.parseString(response.text()).getAsJsonObject().get("data");
+    }
+}
@@ -0,0 +1,84 @@
+package com.spurqlabs.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.spurqlabs.models.Employee;
+
+/**
+ * Streams employee records one at a time from a JSON-lines, JSON array or CSV file,
+ * so arbitrarily large seed files never have to fit in memory.
+ * CSV files need a header row naming the Employee fields and must not use quoted values.
+ */
+public class EmployeeStreamReader implements Closeable {
+    private static final Gson GSON = new Gson();
+
+    private final BufferedReader reader;
+    private final JsonReader jsonReader;
+    private final String[] csvHeader;
+    private boolean inArray;
+
+    public EmployeeStreamReader(Path filePath) throws IOException {
+        this.reader = Files.newBufferedReader(filePath);
+        if (filePath.getFileName().toString().toLowerCase().endsWith(".csv")) {
+            String header = reader.readLine();
+            this.csvHeader = header == null ? new String[0] : header.trim().split(",");
+            this.jsonReader = null;
+        } else {
+            this.csvHeader = null;
+            this.jsonReader = new JsonReader(reader);
+            // Lenient mode accepts several top-level objects, one per line
+            jsonReader.setStrictness(Strictness.LENIENT);
+            if (jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                jsonReader.beginArray();
+                inArray = true;
+            }
+        }
+    }
+
+    /**
+     * Read the next employee, or null at the end of the file
+     */
+    public Employee next() throws IOException {
+        return csvHeader != null ? nextCsv() : nextJson();
+    }
+
+    private Employee nextJson() throws IOException {
+        if (inArray ? !jsonReader.hasNext() : jsonReader.peek() == JsonToken.END_DOCUMENT) {
+            return null;
+        }
+        return GSON.fromJson(jsonReader, Employee.class);
+    }
+
+    private Employee nextCsv() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        String[] values = line.split(",", -1);
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < csvHeader.length && i < values.length; i++) {
+            fields.put(csvHeader[i].trim(), values[i].trim());
+        }
+        return new Employee(fields.get("firstName"), fields.get("middleName"),
+                fields.get("lastName"), fields.getOrDefault("employeeId", "AUTO"));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,142 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Tracing;
+
+/**
+ * Failure-only capture for a scenario's context. Keeps a bounded in-memory timeline of the last
+ * page-object actions, waits, console messages and network events, plus a Playwright trace (actions,
+ * DOM snapshots, screenshots) when tracing is enabled. Nothing is written unless the scenario fails;
+ * passing scenarios drop the timeline and trace without saving them.
+ */
+public class FailureRecorder {
+    private static final ThreadLocal<FailureRecorder> current = new ThreadLocal<>();
+    private static final DateTimeFormatter DIRECTORY_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final BrowserContext context;
+    private final Page page;
+    private final String scenarioName;
+    private final int capacity;
+    private final Deque<String> timeline;
+    private final boolean tracing;
+
+    /**
+     * Files written for a failed scenario, plus the screenshot and timeline for report attachments
+     */
+    public record Capture(Path directory, byte[] screenshot, String timeline) {
+    }
+
+    private FailureRecorder(BrowserContext context, Page page, String scenarioName) {
+        this.context = context;
+        this.page = page;
+        this.scenarioName = scenarioName == null ? "scenario" : scenarioName;
+        this.capacity = ConfigReader.getFailureCaptureBufferSize();
+        this.timeline = new ArrayDeque<>(capacity);
+        this.tracing = ConfigReader.isFailureTraceEnabled();
+    }
+
+    /**
+     * Start recording the context and page of the current thread's scenario
+     */
+    public static FailureRecorder install(BrowserContext context, Page page, String scenarioName) {
+        FailureRecorder recorder = new FailureRecorder(context, page, scenarioName);
+        if (recorder.tracing) {
+            context.tracing().start(new Tracing.StartOptions()
+                    .setScreenshots(true)
+                    .setSnapshots(true)
+                    .setTitle(recorder.scenarioName));
+        }
+        page.onConsoleMessage(message -> recorder.add("console." + message.type() + " " + message.text()));
+        page.onPageError(error -> recorder.add("pageerror " + error));
+        page.onFrameNavigated(frame -> {
+            if (frame == page.mainFrame()) {
+                recorder.add("navigated " + frame.url());
+            }
+        });
+        page.onResponse(response -> recorder.add("response " + response.status() + " "
+                + response.request().method() + " " + response.url()));
+        page.onRequestFailed(request -> recorder.add("requestfailed " + request.method() + " "
+                + request.url() + " " + request.failure()));
+        current.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Add an entry to the current thread's timeline, if a recorder is installed
+     */
+    public static void note(String entry) {
+        FailureRecorder recorder = current.get();
+        if (recorder != null) {
+            recorder.add(entry);
+        }
+    }
+
+    /**
+     * Write trace, DOM, screenshot and timeline under the failures directory. The directory is named
+     * after the scenario, its line and the time, so outline rows and reruns keep separate captures.
+     */
+    public Capture persist(int line) {
+        current.remove();
+        String slug = scenarioName.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        Path directory = Paths.get(ConfigReader.getFailureCaptureDirectory(),
+                slug + "-L" + line + "-" + LocalDateTime.now().format(DIRECTORY_TIME));
+        try {
+            Files.createDirectories(directory);
+            byte[] screenshot = null;
+            try {
+                screenshot = page.screenshot(new Page.ScreenshotOptions().setFullPage(true));
+                Files.write(directory.resolve("screenshot.png"), screenshot);
+                Files.writeString(directory.resolve("page.html"), page.content());
+            } catch (RuntimeException e) {
+                add("capture failed: " + e.getMessage());
+            }
+            if (tracing) {
+                try {
+                    context.tracing().stop(new Tracing.StopOptions().setPath(directory.resolve("trace.zip")));
+                } catch (RuntimeException e) {
+                    add("trace failed: " + e.getMessage());
+                }
+            }
+            String text = getTimeline();
+            Files.writeString(directory.resolve("timeline.log"), text);
+            return new Capture(directory, screenshot, text);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write failure capture for " + scenarioName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop everything recorded for a passing scenario
+     */
+    public void discard() {
+        current.remove();
+        if (tracing) {
+            context.tracing().stop();
+        }
+    }
+
+    /**
+     * Get the recorded entries, oldest first
+     */
+    public synchronized String getTimeline() {
+        return String.join(System.lineSeparator(), timeline) + System.lineSeparator();
+    }
+
+    private synchronized void add(String entry) {
+        if (timeline.size() == capacity) {
+            timeline.removeFirst();
+        }
+        timeline.addLast(LocalTime.now() + " " + entry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.OptionalLong;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+import com.microsoft.playwright.options.HarContentPolicy;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+
+/**
+ * Per-scenario HAR record-and-replay. In "record" mode a scenario's traffic is written to
+ * src/test/resources/har/<scenario>.har when its context closes; in "replay" mode responses are
+ * served from that file through routeFromHAR (POST requests are matched by URL and body) and
+ * unmatched requests fall through to the network. Hits and misses are measured with two pass-through
+ * routes around routeFromHAR: the outer one sees every routed request, the inner one only those the
+ * HAR did not serve.
+ */
+public class HarArchive {
+    private int routed;
+    private int missed;
+
+    private HarArchive() {
+    }
+
+    /**
+     * Get the HAR file of a scenario
+     */
+    public static Path getHarPath(String scenarioName) {
+        String fileName = scenarioName.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        return Paths.get(ConfigReader.getHarDirectory(), fileName + ".har");
+    }
+
+    /**
+     * Store the unique-data seed of a scenario next to its recording, so replay regenerates the same
+     * names and IDs and its POST bodies match the HAR
+     */
+    public static long writeSeed(String scenarioName, long seed) {
+        Path seedPath = getSeedPath(scenarioName);
+        try {
+            Files.createDirectories(seedPath.getParent());
+            Files.writeString(seedPath, Long.toString(seed));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write HAR seed " + seedPath + ": " + e.getMessage());
+        }
+        return seed;
+    }
+
+    /**
+     * Read the unique-data seed stored with a scenario's recording, if any
+     */
+    public static OptionalLong readSeed(String scenarioName) {
+        Path seedPath = getSeedPath(scenarioName);
+        try {
+            return Files.exists(seedPath) ? OptionalLong.of(Long.parseLong(Files.readString(seedPath).trim()))
+                    : OptionalLong.empty();
+        } catch (IOException | NumberFormatException e) {
+            throw new RuntimeException("Failed to read HAR seed " + seedPath + ": " + e.getMessage());
+        }
+    }
+
+    private static Path getSeedPath(String scenarioName) {
+        Path harPath = getHarPath(scenarioName);
+        return harPath.resolveSibling(harPath.getFileName().toString().replaceAll("\\.har$", ".seed"));
+    }
+
+    /**
+     * Configure a new context to record the scenario's traffic
+     */
+    public static void configureRecording(Browser.NewContextOptions options, String scenarioName) {
+        options.setRecordHarPath(getHarPath(scenarioName))
+                .setRecordHarMode(HarMode.FULL)
+                .setRecordHarContent(HarContentPolicy.EMBED);
+    }
+
+    /**
+     * Serve the scenario's recorded responses on the context and count hits and misses. Routes added
+     * later run first, so the miss counter is added before routeFromHAR and the request counter after it.
+     */
+    public static HarArchive replay(BrowserContext context, String scenarioName) {
+        Path harPath = getHarPath(scenarioName);
+        HarArchive archive = new HarArchive();
+        context.route("**/*", archive::countMiss);
+        if (Files.exists(harPath)) {
+            context.routeFromHAR(harPath, new BrowserContext.RouteFromHAROptions().setNotFound(HarNotFound.FALLBACK));
+        } else {
+            System.err.println("[HarArchive] No recording for '" + scenarioName + "', using the live network");
+        }
+        context.route("**/*", archive::countRouted);
+        return archive;
+    }
+
+    /**
+     * Summary of HAR hits and misses, e.g. "38 served from HAR, 2 fell through to the network"
+     */
+    public String getReport() {
+        return getServed() + " served from HAR, " + missed + " fell through to the network";
+    }
+
+    /**
+     * Get number of requests served from the HAR
+     */
+    public int getServed() {
+        return routed - missed;
+    }
+
+    /**
+     * Get number of requests that missed the HAR
+     */
+    public int getMissed() {
+        return missed;
+    }
+
+    private void countRouted(Route route) {
+        routed++;
+        route.fallback();
+    }
+
+    private void countMiss(Route route) {
+        missed++;
+        route.fallback();
+    }
+}
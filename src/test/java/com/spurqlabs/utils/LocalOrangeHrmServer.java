@@ -0,0 +1,347 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.spurqlabs.models.EmployeeRecord;
+import com.spurqlabs.models.LoginCredentials;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for OrangeHRM: serves fixtures of the login, dashboard, PIM list,
+ * add-employee and personal-details pages plus the PIM employee REST endpoints, backed by
+ * in-memory state. Pages require a session cookie issued by the login form; the REST
+ * endpoints do not, so API-only steps can use the stub directly.
+ */
+public class LocalOrangeHrmServer {
+    private static final String EMPLOYEES_PATH = "/web/index.php/api/v2/pim/employees";
+    private static final String LOGIN_PATH = "/web/index.php/auth/login";
+    private static final String PERSONAL_DETAILS_PATH = "/web/index.php/pim/viewPersonalDetails/empNumber/";
+    private static final String PAGES_DIRECTORY = "src/test/resources/stub/";
+    private static final String SESSION_COOKIE = "orangehrm";
+    private static final Gson GSON = new Gson();
+    private static LocalOrangeHrmServer instance;
+    private static boolean shutdownHookRegistered;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<Integer, EmployeeRecord> employees = new ConcurrentHashMap<>();
+    private final AtomicInteger nextEmpNumber = new AtomicInteger(1);
+    private final AtomicInteger nextEmployeeId = new AtomicInteger(1);
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+
+    private LocalOrangeHrmServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", ConfigReader.getLocalServerPort()), 0);
+        server.createContext("/", this::handlePage);
+        server.createContext(EMPLOYEES_PATH, this::handleEmployees);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Start the shared server on a free port, or return it if already running
+     */
+    public static synchronized LocalOrangeHrmServer start() {
+        if (instance == null) {
+            try {
+                instance = new LocalOrangeHrmServer();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start local OrangeHRM server: " + e.getMessage());
+            }
+            if (!shutdownHookRegistered) {
+                // One hook covers every restart, since it stops whichever instance is running
+                Runtime.getRuntime().addShutdownHook(new Thread(LocalOrangeHrmServer::stop, "local-orangehrm-shutdown"));
+                shutdownHookRegistered = true;
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stop the shared server and its handler threads
+     */
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            instance = null;
+        }
+    }
+
+    /**
+     * Get base URL of the running server
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handlePage(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(LOGIN_PATH)) {
+            String query = exchange.getRequestURI().getQuery();
+            boolean failed = query != null && query.contains("error");
+            sendPage(exchange, "login.html", Map.of("errorHidden", failed ? "" : "hidden"));
+            return;
+        }
+        if (path.equals("/web/index.php/auth/validate") && exchange.getRequestMethod().equals("POST")) {
+            validateLogin(exchange);
+            return;
+        }
+        if (!hasSession(exchange)) {
+            redirect(exchange, LOGIN_PATH);
+            return;
+        }
+        if (path.equals("/web/index.php/dashboard/index")) {
+            sendPage(exchange, "dashboard.html", Map.of());
+        } else if (path.equals("/web/index.php/pim/viewEmployeeList")) {
+            sendPage(exchange, "employee-list.html", Map.of());
+        } else if (path.equals("/web/index.php/pim/addEmployee")) {
+            sendPage(exchange, "add-employee.html", Map.of("nextEmployeeId", nextEmployeeId()));
+        } else if (path.startsWith(PERSONAL_DETAILS_PATH)) {
+            showPersonalDetails(exchange, path.substring(PERSONAL_DETAILS_PATH.length()));
+        } else if (path.equals("/web/index.php/auth/logout")) {
+            sessions.remove(getSessionId(exchange));
+            redirect(exchange, LOGIN_PATH);
+        } else if (path.equals("/") || path.equals("/web/index.php")) {
+            redirect(exchange, "/web/index.php/dashboard/index");
+        } else {
+            sendJson(exchange, 404, error("Not Found"));
+        }
+    }
+
+    private void validateLogin(HttpExchange exchange) throws IOException {
+        Map<String, String> form;
+        try (InputStream in = exchange.getRequestBody()) {
+            form = parseQuery(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        LoginCredentials validUser = TestDataReader.getValidUserCredentials();
+        if (!validUser.username().equals(form.get("username")) || !validUser.password().equals(form.get("password"))) {
+            redirect(exchange, LOGIN_PATH + "?error=1");
+            return;
+        }
+        String sessionId = UUID.randomUUID().toString();
+        sessions.add(sessionId);
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + sessionId + "; Path=/; HttpOnly");
+        redirect(exchange, "/web/index.php/dashboard/index");
+    }
+
+    private void showPersonalDetails(HttpExchange exchange, String empNumber) throws IOException {
+        EmployeeRecord employee;
+        try {
+            employee = employees.get(Integer.parseInt(empNumber));
+        } catch (NumberFormatException e) {
+            employee = null;
+        }
+        if (employee == null) {
+            sendJson(exchange, 404, error("Record Not Found"));
+            return;
+        }
+        sendPage(exchange, "personal-details.html", Map.of(
+                "fullName", escapeHtml(employee.fullName()),
+                "employeeId", escapeHtml(employee.employeeId())));
+    }
+
+    private boolean hasSession(HttpExchange exchange) {
+        String sessionId = getSessionId(exchange);
+        return sessionId != null && sessions.contains(sessionId);
+    }
+
+    private static String getSessionId(HttpExchange exchange) {
+        List<String> cookieHeaders = exchange.getRequestHeaders().get("Cookie");
+        if (cookieHeaders == null) {
+            return null;
+        }
+        for (String header : cookieHeaders) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].equals(SESSION_COOKIE)) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private String nextEmployeeId() {
+        return String.format("%04d", nextEmployeeId.getAndIncrement());
+    }
+
+    private void handleEmployees(HttpExchange exchange) throws IOException {
+        try {
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> listEmployees(exchange);
+                case "POST" -> createEmployee(exchange);
+                case "DELETE" -> deleteEmployees(exchange);
+                default -> sendJson(exchange, 405, error("Method not allowed"));
+            }
+        } catch (RuntimeException e) {
+            sendJson(exchange, 400, error(e.getMessage()));
+        }
+    }
+
+    private void listEmployees(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String nameOrId = query.getOrDefault("nameOrId", "").trim().toLowerCase();
+        String employeeId = query.getOrDefault("employeeId", "").trim();
+        int limit = Integer.parseInt(query.getOrDefault("limit", "50"));
+        int offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+
+        List<EmployeeRecord> matches = new ArrayList<>();
+        for (EmployeeRecord employee : employees.values()) {
+            if ((nameOrId.isEmpty() || matches(employee, nameOrId))
+                    && (employeeId.isEmpty() || employee.employeeId().equalsIgnoreCase(employeeId))) {
+                matches.add(employee);
+            }
+        }
+        matches.sort(Comparator.comparingInt(EmployeeRecord::empNumber));
+
+        JsonObject body = new JsonObject();
+        body.add("data", GSON.toJsonTree(matches.subList(Math.min(offset, matches.size()),
+                Math.min(offset + limit, matches.size()))));
+        JsonObject meta = new JsonObject();
+        meta.addProperty("total", matches.size());
+        body.add("meta", meta);
+        sendJson(exchange, 200, body);
+    }
+
+    private void createEmployee(HttpExchange exchange) throws IOException {
+        JsonObject request = readJson(exchange).getAsJsonObject();
+        String firstName = getString(request, "firstName");
+        String lastName = getString(request, "lastName");
+        if (firstName.isEmpty() || lastName.isEmpty()) {
+            sendJson(exchange, 422, error("Required"));
+            return;
+        }
+        int empNumber = nextEmpNumber.getAndIncrement();
+        String employeeId = getString(request, "employeeId");
+        if (employeeId.isEmpty()) {
+            employeeId = nextEmployeeId();
+        }
+        synchronized (employees) {
+            String requestedId = employeeId;
+            if (employees.values().stream().anyMatch(e -> e.employeeId().equals(requestedId))) {
+                sendJson(exchange, 422, error("Employee Id already exists"));
+                return;
+            }
+            EmployeeRecord employee = new EmployeeRecord(empNumber, firstName,
+                    getString(request, "middleName"), lastName, employeeId);
+            employees.put(empNumber, employee);
+            JsonObject body = new JsonObject();
+            body.add("data", GSON.toJsonTree(employee));
+            sendJson(exchange, 200, body);
+        }
+    }
+
+    private void deleteEmployees(HttpExchange exchange) throws IOException {
+        JsonObject request = readJson(exchange).getAsJsonObject();
+        List<Integer> deleted = new ArrayList<>();
+        for (JsonElement id : request.getAsJsonArray("ids")) {
+            if (employees.remove(id.getAsInt()) != null) {
+                deleted.add(id.getAsInt());
+            }
+        }
+        if (deleted.isEmpty()) {
+            sendJson(exchange, 404, error("Records Not Found"));
+            return;
+        }
+        JsonObject body = new JsonObject();
+        body.add("data", GSON.toJsonTree(deleted));
+        sendJson(exchange, 200, body);
+    }
+
+    private static boolean matches(EmployeeRecord employee, String nameOrId) {
+        String fullName = (employee.firstName() + " " + employee.middleName() + " " + employee.lastName()).toLowerCase();
+        return fullName.contains(nameOrId)
+                || employee.fullName().toLowerCase().contains(nameOrId)
+                || employee.employeeId().equalsIgnoreCase(nameOrId);
+    }
+
+    private static String escapeHtml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String getString(JsonObject json, String field) {
+        return json.has(field) && !json.get(field).isJsonNull() ? json.get(field).getAsString().trim() : "";
+    }
+
+    private static JsonObject error(String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("message", message);
+        JsonObject body = new JsonObject();
+        body.add("error", error);
+        return body;
+    }
+
+    private static JsonElement readJson(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return JsonParser.parseString(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonElement body) throws IOException {
+        send(exchange, status, "application/json", GSON.toJson(body));
+    }
+
+    /**
+     * Serve a page fixture, replacing {{name}} placeholders
+     */
+    private static void sendPage(HttpExchange exchange, String fileName, Map<String, String> values) throws IOException {
+        String html = Files.readString(Paths.get(PAGES_DIRECTORY, fileName));
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            html = html.replace("{{" + value.getKey() + "}}", value.getValue());
+        }
+        send(exchange, 200, "text/html; charset=UTF-8", html);
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
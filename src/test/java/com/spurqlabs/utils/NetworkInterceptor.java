@@ -0,0 +1,262 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+
+/**
+ * Context-level route layer: aborts blocklisted resource types and hosts, and serves static assets
+ * (JS/CSS bundles) from an on-disk cache shared by every context, worker and JVM. Only responses the
+ * server marks immutable or cacheable for at least "minMaxAgeSeconds" are stored; an entry is served
+ * until its max-age runs out and is then revalidated with its ETag. Each instance belongs to one
+ * scenario's context and reports what it saved; run totals are kept across all contexts.
+ */
+public class NetworkInterceptor {
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    // Immutable responses without a max-age are kept for a year, the common "forever" lifetime
+    private static final long IMMUTABLE_SECONDS = 365L * 24 * 60 * 60;
+    // Describe the original transfer, not the decoded body the cache serves
+    private static final Set<String> TRANSFER_HEADERS = Set.of(
+            "content-length", "content-encoding", "transfer-encoding", "connection", "keep-alive");
+    private static final LongAdder totalContexts = new LongAdder();
+    private static final LongAdder totalBlocked = new LongAdder();
+    private static final LongAdder totalHits = new LongAdder();
+    private static final LongAdder totalBytes = new LongAdder();
+    private static final LongAdder totalMillis = new LongAdder();
+
+    private final Set<String> blockedResourceTypes;
+    private final List<String> blockedHosts;
+    private final List<String> cacheableExtensions;
+    private final Path cacheDirectory;
+    private final long minMaxAgeSeconds;
+
+    private int blockedRequests;
+    private int cacheHits;
+    private long bytesSaved;
+    private long millisSaved;
+
+    private NetworkInterceptor() {
+        this.blockedResourceTypes = Set.copyOf(ConfigReader.getBlockedResourceTypes());
+        this.blockedHosts = ConfigReader.getBlockedHosts();
+        this.cacheableExtensions = ConfigReader.getStaticCacheExtensions();
+        this.cacheDirectory = ConfigReader.isStaticCacheEnabled()
+                ? Paths.get(ConfigReader.getStaticCacheDirectory()) : null;
+        this.minMaxAgeSeconds = ConfigReader.getStaticCacheMinMaxAgeSeconds();
+    }
+
+    /**
+     * Install the route layer on a new context
+     */
+    public static NetworkInterceptor install(BrowserContext context) {
+        NetworkInterceptor interceptor = new NetworkInterceptor();
+        context.route("**/*", interceptor::handle);
+        totalContexts.increment();
+        return interceptor;
+    }
+
+    /**
+     * Summary of what every context of the run saved, or null when no context was intercepted since
+     * the last call; resets the totals
+     */
+    public static String getRunReport() {
+        if (totalContexts.sumThenReset() == 0) {
+            return null;
+        }
+        return String.format("blocked %d requests, %d cached assets (%d KB, ~%d ms saved)",
+                totalBlocked.sumThenReset(), totalHits.sumThenReset(), totalBytes.sumThenReset() / 1024,
+                totalMillis.sumThenReset());
+    }
+
+    /**
+     * Summary of what this context saved, e.g. "blocked 14 requests, 9 cached assets (812 KB, ~640 ms saved)"
+     */
+    public String getReport() {
+        return String.format("blocked %d requests, %d cached assets (%d KB, ~%d ms saved)",
+                blockedRequests, cacheHits, bytesSaved / 1024, millisSaved);
+    }
+
+    private void handle(Route route) {
+        Request request = route.request();
+        if (isBlocked(request)) {
+            blockedRequests++;
+            totalBlocked.increment();
+            route.abort();
+        } else if (isCacheable(request)) {
+            serveFromCache(route);
+        } else {
+            // Let later handlers (or the network) deal with everything else
+            route.fallback();
+        }
+    }
+
+    private boolean isBlocked(Request request) {
+        if (blockedResourceTypes.contains(request.resourceType())) {
+            return true;
+        }
+        String host = URI.create(request.url()).getHost();
+        return host != null && blockedHosts.stream().anyMatch(host::endsWith);
+    }
+
+    private boolean isCacheable(Request request) {
+        if (cacheDirectory == null || !"GET".equals(request.method())) {
+            return false;
+        }
+        String path = URI.create(request.url()).getPath();
+        return path != null && cacheableExtensions.stream().anyMatch(path::endsWith);
+    }
+
+    /**
+     * Fulfill from disk while an entry is fresh, revalidate it with its ETag once stale, and otherwise
+     * fetch and store the response if its Cache-Control allows; any failure falls back to the network
+     */
+    private void serveFromCache(Route route) {
+        String key = hash(route.request().url());
+        Path body = cacheDirectory.resolve(key + ".body");
+        Path meta = cacheDirectory.resolve(key + ".json");
+        try {
+            JsonObject cached = readEntry(body, meta);
+            if (cached != null && System.currentTimeMillis() < cached.get("expiresAtMillis").getAsLong()) {
+                fulfillFromDisk(route, body, cached);
+                return;
+            }
+
+            Map<String, String> headers = new HashMap<>(route.request().headers());
+            if (cached != null && cached.has("etag")) {
+                headers.put("if-none-match", cached.get("etag").getAsString());
+            }
+            long start = System.nanoTime();
+            APIResponse response = route.fetch(new Route.FetchOptions().setHeaders(headers));
+            long fetchMs = (System.nanoTime() - start) / 1_000_000;
+            if (response.status() == 304 && cached != null) {
+                // Still valid: extend the entry by the new max-age and serve the stored body
+                long maxAge = maxAgeSeconds(response.headers());
+                cached.addProperty("expiresAtMillis", System.currentTimeMillis() + maxAge * 1000);
+                writeAtomically(meta, cached.toString().getBytes(StandardCharsets.UTF_8));
+                route.fulfill(new Route.FulfillOptions().setStatus(200).setHeaders(headers(cached)).setPath(body));
+                countHit(Files.size(body), 0);
+                return;
+            }
+            long maxAge = maxAgeSeconds(response.headers());
+            if (response.status() == 200 && maxAge >= minMaxAgeSeconds) {
+                JsonObject metadata = new JsonObject();
+                metadata.addProperty("url", route.request().url());
+                metadata.addProperty("fetchMs", fetchMs);
+                metadata.addProperty("expiresAtMillis", System.currentTimeMillis() + maxAge * 1000);
+                JsonObject stored = new JsonObject();
+                response.headers().forEach((name, value) -> {
+                    if (!TRANSFER_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                        stored.addProperty(name, value);
+                    }
+                });
+                metadata.add("headers", stored);
+                String etag = response.headers().get("etag");
+                if (etag != null) {
+                    metadata.addProperty("etag", etag);
+                }
+                writeAtomically(body, response.body());
+                writeAtomically(meta, metadata.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            route.fulfill(new Route.FulfillOptions().setResponse(response));
+        } catch (IOException | RuntimeException e) {
+            // A broken cache entry or failed fetch must never leave the request hanging
+            try {
+                route.fallback();
+            } catch (RuntimeException closed) {
+                // The context closed while the request was in flight
+            }
+        }
+    }
+
+    /**
+     * Read a complete cache entry, or null when missing, unreadable or written by an older format
+     */
+    private static JsonObject readEntry(Path body, Path meta) {
+        if (!Files.exists(body) || !Files.exists(meta)) {
+            return null;
+        }
+        try {
+            JsonObject metadata = JsonParser.parseString(Files.readString(meta)).getAsJsonObject();
+            return metadata.has("expiresAtMillis") && metadata.has("headers") ? metadata : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void fulfillFromDisk(Route route, Path body, JsonObject cached) throws IOException {
+        route.fulfill(new Route.FulfillOptions().setStatus(200).setHeaders(headers(cached)).setPath(body));
+        countHit(Files.size(body), cached.get("fetchMs").getAsLong());
+    }
+
+    private void countHit(long bytes, long millis) {
+        cacheHits++;
+        bytesSaved += bytes;
+        millisSaved += millis;
+        totalHits.increment();
+        totalBytes.add(bytes);
+        totalMillis.add(millis);
+    }
+
+    private static Map<String, String> headers(JsonObject cached) {
+        Map<String, String> headers = new HashMap<>();
+        cached.getAsJsonObject("headers").entrySet()
+                .forEach(header -> headers.put(header.getKey(), header.getValue().getAsString()));
+        return headers;
+    }
+
+    /**
+     * Freshness lifetime from Cache-Control: max-age, a year for immutable, and 0 for no-store,
+     * no-cache or no header
+     */
+    private static long maxAgeSeconds(Map<String, String> headers) {
+        String cacheControl = headers.getOrDefault("cache-control", "").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-store") || cacheControl.contains("no-cache")) {
+            return 0;
+        }
+        Matcher maxAge = MAX_AGE.matcher(cacheControl);
+        if (maxAge.find()) {
+            return Long.parseLong(maxAge.group(1));
+        }
+        return cacheControl.contains("immutable") ? IMMUTABLE_SECONDS : 0;
+    }
+
+    /**
+     * Write through a temp file and move into place, so concurrent workers never read a partial entry
+     */
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.write(temp, content);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String hash(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.spurqlabs.utils;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+
+/**
+ * Reads browser-side timings from the page: Navigation/Resource Timing entries from
+ * performance.getEntries() and Web Vitals (FCP, LCP, CLS) collected by an init script.
+ * LCP and CLS are only reported by Chromium; other browsers return 0. Resource Timing has no HTTP
+ * method and is lost when the page navigates, so request durations are also taken from Playwright's
+ * finished-request events, keyed by method and path.
+ */
+public class PerformanceProbe {
+    // Buffered observers so entries from before the first read are kept
+    private static final String VITALS_INIT_SCRIPT = """
+            window.__vitals = { lcp: 0, cls: 0 };
+            try {
+                new PerformanceObserver(list => {
+                    for (const entry of list.getEntries()) {
+                        window.__vitals.lcp = entry.renderTime || entry.loadTime || entry.startTime;
+                    }
+                }).observe({ type: 'largest-contentful-paint', buffered: true });
+                new PerformanceObserver(list => {
+                    for (const entry of list.getEntries()) {
+                        if (!entry.hadRecentInput) {
+                            window.__vitals.cls += entry.value;
+                        }
+                    }
+                }).observe({ type: 'layout-shift', buffered: true });
+            } catch (e) {
+                // Entry type not supported by this browser
+            }
+            """;
+
+    // Latest fetch/XHR entry whose path ends with the fragment (so sub-resources of an endpoint do not match)
+    private static final String RESOURCE_SCRIPT = """
+            fragment => {
+                const entries = performance.getEntriesByType('resource')
+                    .filter(entry => new URL(entry.name).pathname.endsWith(fragment)
+                        && (entry.initiatorType === 'fetch' || entry.initiatorType === 'xmlhttprequest'));
+                const latest = entries[entries.length - 1];
+                return latest ? { duration: latest.duration, responseEnd: latest.responseEnd } : null;
+            }
+            """;
+
+    private static final String NAVIGATION_SCRIPT = """
+            () => {
+                const navigation = performance.getEntriesByType('navigation')[0];
+                const fcp = performance.getEntriesByName('first-contentful-paint')[0];
+                return {
+                    url: navigation ? navigation.name : location.href,
+                    ttfb: navigation ? navigation.responseStart : 0,
+                    domContentLoaded: navigation ? navigation.domContentLoadedEventEnd : 0,
+                    load: navigation ? navigation.loadEventEnd : 0,
+                    fcp: fcp ? fcp.startTime : 0,
+                    lcp: window.__vitals ? window.__vitals.lcp : 0,
+                    cls: window.__vitals ? window.__vitals.cls : 0
+                };
+            }
+            """;
+
+    // Latest request duration per "METHOD path", per context
+    private static final Map<BrowserContext, Map<String, Double>> requestMillis = new ConcurrentHashMap<>();
+
+    /**
+     * Register the Web Vitals observers for every page of the context and record finished request timings
+     */
+    public static void install(BrowserContext context) {
+        context.addInitScript(VITALS_INIT_SCRIPT);
+        Map<String, Double> durations = new ConcurrentHashMap<>();
+        requestMillis.put(context, durations);
+        context.onRequestFinished(request -> recordDuration(durations, request));
+        context.onClose(requestMillis::remove);
+    }
+
+    /**
+     * Get navigation timings and Web Vitals of the current document, in ms from navigation start
+     * (keys: ttfb, domContentLoaded, load, fcp, lcp; cls is unitless)
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> getPageMetrics(Page page) {
+        return (Map<String, Object>) page.evaluate(NAVIGATION_SCRIPT);
+    }
+
+    /**
+     * Get how long the latest request with the method to a path ending with the fragment took, from
+     * request start to response end, or -1 when none finished in the context
+     */
+    public static double getRequestMillis(BrowserContext context, String method, String pathFragment) {
+        Map<String, Double> durations = requestMillis.getOrDefault(context, Map.of());
+        String prefix = method.toUpperCase() + " ";
+        return durations.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix) && entry.getKey().endsWith(pathFragment))
+                .mapToDouble(Map.Entry::getValue)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    /**
+     * Get when the latest fetch/XHR to the URL fragment finished, in ms since the current document
+     * started loading, or -1 when none was made; this is when data-driven content could first render
+     */
+    public static double getRequestEndMillis(Page page, String urlFragment) {
+        Map<?, ?> entry = (Map<?, ?>) page.evaluate(RESOURCE_SCRIPT, urlFragment);
+        return entry == null ? -1 : ((Number) entry.get("responseEnd")).doubleValue();
+    }
+
+    private static void recordDuration(Map<String, Double> durations, Request request) {
+        double responseEnd = request.timing().responseEnd;
+        if (responseEnd >= 0) {
+            durations.put(request.method() + " " + URI.create(request.url()).getPath(), responseEnd);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Appends performance measurements to a trend file (one JSON object per line, per run and metric)
+ * and checks them against a budget and the stored baseline. Run with -Dperf.updateBaseline=true to
+ * store the current measurements as the new baseline.
+ */
+public class PerformanceTrend {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String RUN_ID = Instant.now().toString();
+
+    /**
+     * Record a measurement and return why it fails its budget or baseline, or null when it passes
+     */
+    public static synchronized String check(String metric, double valueMs, double budgetMs) {
+        append(metric, valueMs, budgetMs);
+        Map<String, Double> baseline = readBaseline();
+        if (Boolean.getBoolean("perf.updateBaseline")) {
+            baseline.put(metric, valueMs);
+            writeBaseline(baseline);
+        }
+        if (valueMs > budgetMs) {
+            return String.format("%s took %.0f ms, over the %.0f ms budget", metric, valueMs, budgetMs);
+        }
+        Double expected = baseline.get(metric);
+        double tolerance = ConfigReader.getPerformanceRegressionTolerancePercent();
+        if (expected != null && valueMs > expected * (1 + tolerance / 100)) {
+            return String.format("%s took %.0f ms, more than %.0f%% over the %.0f ms baseline",
+                    metric, valueMs, tolerance, expected);
+        }
+        return null;
+    }
+
+    private static void append(String metric, double valueMs, double budgetMs) {
+        JsonObject entry = new JsonObject();
+        entry.addProperty("run", RUN_ID);
+        entry.addProperty("time", Instant.now().toString());
+        entry.addProperty("metric", metric);
+        entry.addProperty("valueMs", Math.round(valueMs));
+        entry.addProperty("budgetMs", Math.round(budgetMs));
+        try {
+            Path path = Paths.get(ConfigReader.getPerformanceTrendFile());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, new Gson().toJson(entry) + System.lineSeparator(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("[PerformanceTrend] Failed to record " + metric + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Double> readBaseline() {
+        Path path = Paths.get(ConfigReader.getPerformanceBaselineFile());
+        if (!Files.exists(path)) {
+            return new TreeMap<>();
+        }
+        try {
+            Map<String, Double> baseline = GSON.fromJson(Files.readString(path),
+                    new TypeToken<TreeMap<String, Double>>() { }.getType());
+            return baseline == null ? new TreeMap<>() : baseline;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read performance baseline: " + e.getMessage());
+        }
+    }
+
+    private static void writeBaseline(Map<String, Double> baseline) {
+        try {
+            Path path = Paths.get(ConfigReader.getPerformanceBaselineFile());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, GSON.toJson(baseline) + System.lineSeparator());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write performance baseline: " + e.getMessage());
+        }
+    }
+}
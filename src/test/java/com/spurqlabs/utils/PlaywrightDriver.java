@@ -1,39 +1,148 @@
 package com.spurqlabs.utils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.microsoft.playwright.*;
 
 /**
- * Singleton driver manager for Playwright
+ * Thread-confined driver manager for Playwright.
+ * Every worker thread owns its own Playwright instance; when the browser is reused (pool mode or
+ * "browserLifecycle": "jvm") it is kept warm across scenarios and only the BrowserContext/Page
+ * is recreated per scenario.
  */
 public class PlaywrightDriver {
-    private static Playwright playwright;
-    private static Browser browser;
-    private static BrowserContext context;
-    private static Page page;
+    private static final ThreadLocal<Playwright> playwright = new ThreadLocal<>();
+    private static final ThreadLocal<Browser> browser = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserContext> context = new ThreadLocal<>();
+    private static final ThreadLocal<Page> page = new ThreadLocal<>();
+    private static final ThreadLocal<NetworkInterceptor> interceptor = new ThreadLocal<>();
+    private static final ThreadLocal<HarArchive> harArchive = new ThreadLocal<>();
+    private static final ThreadLocal<FailureRecorder> recorder = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserResourceSampler> sampler = new ThreadLocal<>();
+    private static final ThreadLocal<String> scenarioNames = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> scenarioReports = ThreadLocal.withInitial(ArrayList::new);
+
+    // Every reused Playwright instance, so they can be closed at the end of the run
+    private static final Queue<Playwright> pooledInstances = new ConcurrentLinkedQueue<>();
+
+    // Launch statistics used to report the startup time saved by reusing browsers
+    private static final AtomicLong browserLaunches = new AtomicLong();
+    private static final AtomicLong launchNanos = new AtomicLong();
+    private static final AtomicLong contextsCreated = new AtomicLong();
+    private static final AtomicLong harServed = new AtomicLong();
+    private static final AtomicLong harMissed = new AtomicLong();
+    private static final String LAUNCH_REPORT_PATH = "target/browser-launch-report.txt";
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PlaywrightDriver::closeAll, "playwright-pool-shutdown"));
+    }
 
     /**
-     * Initialize Playwright browser instance
+     * Initialize Playwright browser instance for the current thread
      */
     public static void initDriver() {
-        if (playwright == null) {
-            playwright = Playwright.create();
-            
-            BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions()
-                    .setHeadless(ConfigReader.isHeadless())
-                    .setSlowMo(ConfigReader.getSlowMo());
-
-            String browserType = ConfigReader.getBrowser().toLowerCase();
-            browser = switch (browserType) {
-                case "firefox" -> playwright.firefox().launch(launchOptions);
-                case "webkit" -> playwright.webkit().launch(launchOptions);
-                default -> playwright.chromium().launch(launchOptions);
+        initDriver(null);
+    }
+
+    /**
+     * Initialize Playwright for a named scenario; the name selects its HAR recording
+     */
+    public static void initDriver(String scenarioName) {
+        if (playwright.get() == null) {
+            launchBrowser();
+        }
+        if (context.get() == null) {
+            scenarioNames.set(scenarioName);
+            openContext(null);
+        }
+    }
+
+    /**
+     * Create the scenario's context and page, optionally starting from a saved storage state
+     */
+    private static void openContext(Path storageStatePath) {
+        String scenarioName = scenarioNames.get();
+        long start = System.nanoTime();
+        String harMode = scenarioName == null ? "off" : ConfigReader.getHarMode();
+        Browser.NewContextOptions options = new Browser.NewContextOptions()
+                .setViewportSize(ConfigReader.getViewportWidth(), ConfigReader.getViewportHeight());
+        if (storageStatePath != null) {
+            options.setStorageStatePath(storageStatePath);
+        }
+        if (harMode.equals("record")) {
+            HarArchive.configureRecording(options, scenarioName);
+        }
+        BrowserContext newContext = browser.get().newContext(options);
+        if (ConfigReader.isNetworkInterceptionEnabled()) {
+            interceptor.set(NetworkInterceptor.install(newContext));
+        }
+        if (ConfigReader.isPerformanceProbeEnabled()) {
+            PerformanceProbe.install(newContext);
+        }
+        if (ConfigReader.isAdaptiveConcurrencyEnabled()) {
+            AdaptiveConcurrencyController.getInstance().observe(newContext);
+        }
+        // Registered after the interceptor so the HAR is consulted first
+        if (harMode.equals("replay")) {
+            harArchive.set(HarArchive.replay(newContext, scenarioName));
+        }
+        Page newPage = newContext.newPage();
+        newPage.setDefaultTimeout(ConfigReader.getTimeout());
+        if (ConfigReader.isFailureCaptureEnabled()) {
+            recorder.set(FailureRecorder.install(newContext, newPage, scenarioName));
+        }
+        context.set(newContext);
+        page.set(newPage);
+        contextsCreated.incrementAndGet();
+        TimingRegistry.record("driver", "newContext", System.nanoTime() - start);
+    }
+
+    /**
+     * Create the Playwright instance and launch the browser owned by the current thread
+     */
+    private static void launchBrowser() {
+        long start = System.nanoTime();
+        BrowserResourceSampler.TrackedPlaywright tracked = ConfigReader.isBrowserRecyclingEnabled()
+                ? BrowserResourceSampler.createPlaywright() : new BrowserResourceSampler.TrackedPlaywright(Playwright.create(), -1);
+        Playwright instance = tracked.playwright();
+
+        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions()
+                .setHeadless(ConfigReader.isHeadless())
+                .setSlowMo(ConfigReader.getSlowMo());
+
+        String browserType = ConfigReader.getBrowser().toLowerCase();
+        Browser launched;
+        try {
+            launched = switch (browserType) {
+                case "firefox" -> instance.firefox().launch(launchOptions);
+                case "webkit" -> instance.webkit().launch(launchOptions);
+                default -> instance.chromium().launch(launchOptions);
             };
+        } catch (RuntimeException e) {
+            // Close the driver process, otherwise its pipe threads keep the JVM alive
+            instance.close();
+            throw e;
+        }
 
-            context = browser.newContext(new Browser.NewContextOptions()
-                    .setViewportSize(1920, 1080));
-            
-            page = context.newPage();
-            page.setDefaultTimeout(ConfigReader.getTimeout());
+        playwright.set(instance);
+        browser.set(launched);
+        long elapsed = System.nanoTime() - start;
+        browserLaunches.incrementAndGet();
+        launchNanos.addAndGet(elapsed);
+        TimingRegistry.record("driver", "launchBrowser", elapsed);
+        if (ConfigReader.isBrowserReused()) {
+            pooledInstances.add(instance);
+        }
+        if (ConfigReader.isBrowserRecyclingEnabled()) {
+            sampler.set(BrowserResourceSampler.start(tracked.driverPid()));
         }
     }
 
@@ -41,10 +150,32 @@ public class PlaywrightDriver {
      * Get the current Page instance
      */
     public static Page getPage() {
-        if (page == null) {
+        if (page.get() == null) {
             initDriver();
         }
-        return page;
+        return page.get();
+    }
+
+    /**
+     * Get the current BrowserContext instance
+     */
+    public static BrowserContext getContext() {
+        if (context.get() == null) {
+            initDriver();
+        }
+        return context.get();
+    }
+
+    /**
+     * Replace the scenario's context with one created from a saved storage state (cookies and
+     * localStorage). Page objects look the page up on every call, so they follow the new one.
+     */
+    public static void loadStorageState(Path statePath) {
+        if (playwright.get() == null) {
+            launchBrowser();
+        }
+        closeContext();
+        openContext(statePath);
     }
 
     /**
@@ -55,24 +186,156 @@ public class PlaywrightDriver {
     }
 
     /**
-     * Close browser and cleanup resources
+     * Save the failure capture of the scenario at the given line; returns null when capture is disabled
+     */
+    public static FailureRecorder.Capture captureFailure(int line) {
+        FailureRecorder active = recorder.get();
+        if (active == null) {
+            return null;
+        }
+        recorder.remove();
+        return active.persist(line);
+    }
+
+    /**
+     * Close the scenario's context; when the browser is reused it stays open for the next scenario
      */
     public static void quitDriver() {
-        if (page != null) {
-            page.close();
-            page = null;
+        closeContext();
+        scenarioNames.remove();
+        if (ConfigReader.isBrowserReused()) {
+            if (sampler.get() != null && sampler.get().scenarioFinished(browser.get()) != null) {
+                recycleBrowser();
+            }
+            return;
+        }
+        if (browser.get() != null) {
+            browser.get().close();
+            browser.remove();
+        }
+        if (playwright.get() != null) {
+            playwright.get().close();
+            playwright.remove();
+        }
+    }
+
+    /**
+     * Close the current context and page together with the listeners attached to them
+     */
+    private static void closeContext() {
+        if (recorder.get() != null) {
+            // Scenario passed: drop the trace without writing it
+            recorder.get().discard();
+            recorder.remove();
+        }
+        if (page.get() != null) {
+            page.get().close();
+            page.remove();
+        }
+        if (context.get() != null) {
+            context.get().close();
+            context.remove();
+        }
+        if (interceptor.get() != null) {
+            scenarioReports.get().add("Network: " + interceptor.get().getReport());
+            interceptor.remove();
+        }
+        if (harArchive.get() != null) {
+            HarArchive archive = harArchive.get();
+            harServed.addAndGet(archive.getServed());
+            harMissed.addAndGet(archive.getMissed());
+            scenarioReports.get().add("HAR: " + archive.getReport());
+            harArchive.remove();
+        }
+    }
+
+    /**
+     * Get and clear the network and HAR reports of the current thread's closed contexts, for the
+     * scenario's Cucumber log
+     */
+    public static List<String> drainScenarioReports() {
+        List<String> reports = new ArrayList<>(scenarioReports.get());
+        scenarioReports.remove();
+        return reports;
+    }
+
+    /**
+     * Close the current thread's browser when no scenario is using it, e.g. while the worker waits for
+     * a slot after the concurrency limit was lowered; the next scenario on this thread launches a fresh one
+     */
+    public static void closeIdleBrowser() {
+        if (context.get() == null && browser.get() != null) {
+            recycleBrowser();
         }
-        if (context != null) {
-            context.close();
-            context = null;
+    }
+
+    /**
+     * Close the current thread's reused browser; the next scenario on this thread launches a fresh one
+     */
+    private static void recycleBrowser() {
+        Playwright instance = playwright.get();
+        pooledInstances.remove(instance);
+        browser.get().close();
+        browser.remove();
+        instance.close();
+        playwright.remove();
+        sampler.remove();
+    }
+
+    /**
+     * Close every reused Playwright instance and report the launch time saved.
+     * Called from the @AfterAll hook, and again from a shutdown hook as a safety net.
+     */
+    public static synchronized void closeAll() {
+        Playwright instance;
+        boolean closedAny = false;
+        while ((instance = pooledInstances.poll()) != null) {
+            closedAny = true;
+            try {
+                instance.close();
+            } catch (Exception e) {
+                // Driver may already be gone during JVM shutdown
+            }
         }
-        if (browser != null) {
-            browser.close();
-            browser = null;
+        if (closedAny) {
+            writeLaunchReport();
         }
-        if (playwright != null) {
-            playwright.close();
-            playwright = null;
+        String networkReport = NetworkInterceptor.getRunReport();
+        if (networkReport != null) {
+            System.out.println("[NetworkInterceptor] Run total: " + networkReport);
+        }
+        if (harServed.get() + harMissed.get() > 0) {
+            System.out.printf("[HarArchive] Run total: %d served from HAR, %d fell through to the network%n",
+                    harServed.getAndSet(0), harMissed.getAndSet(0));
+        }
+    }
+
+    /**
+     * Summarize browser launches versus scenarios served, and the startup time that reuse saved
+     */
+    public static String getLaunchReport() {
+        long launches = browserLaunches.get();
+        long contexts = contextsCreated.get();
+        long averageLaunchMs = launches == 0 ? 0 : launchNanos.get() / launches / 1_000_000;
+        long savedMs = Math.max(0, contexts - launches) * averageLaunchMs;
+        String report = String.format("Browser launches: %d, contexts created: %d, average launch: %d ms, "
+                + "launch time saved: %d ms", launches, contexts, averageLaunchMs, savedMs);
+        return ConfigReader.isBrowserRecyclingEnabled()
+                ? report + ", " + BrowserResourceSampler.getRecycleReport() : report;
+    }
+
+    /**
+     * Print the launch report and write it under target/
+     */
+    private static void writeLaunchReport() {
+        String report = getLaunchReport();
+        System.out.println("[PlaywrightDriver] " + report);
+        try {
+            Path path = Paths.get(LAUNCH_REPORT_PATH);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, report + System.lineSeparator());
+        } catch (IOException e) {
+            System.err.println("[PlaywrightDriver] Failed to write launch report: " + e.getMessage());
         }
     }
 }
@@ -0,0 +1,193 @@
+package com.spurqlabs.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Retries page-object actions on transient failures so a missed toast or a slow navigation costs
+ * a backoff instead of a full scenario rerun. Each action has an attempt count and a time budget
+ * from the "retry" section of config.json; only exceptions listed in "retryOn" are retried.
+ * Actions that change server state are marked with {@link #nonIdempotent} and always run once.
+ * Retry counts are only reported in the end-of-run summary.
+ * Each attempt is handed its share of the remaining budget as a timeout, so a single slow attempt
+ * cannot use up the whole budget and leave no room for the retry.
+ */
+public class RetryPolicy {
+    private static final Map<String, LongAdder> retries = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> recovered = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> exhausted = new ConcurrentHashMap<>();
+    private static final Set<String> overrunWarnings = ConcurrentHashMap.newKeySet();
+    // Slack allowed for an attempt over its timeout before it is reported as ignoring the timeout
+    private static final long OVERRUN_GRACE_MS = 1000;
+    private static volatile List<Class<?>> retryableTypes;
+
+    /**
+     * Settings for one action, resolved from the defaults and its "actions" override
+     */
+    private record Settings(int maxAttempts, long budgetMs, long initialBackoffMs, double multiplier, long maxBackoffMs) {
+    }
+
+    /**
+     * Run an action that is safe to repeat, retrying transient failures. The body receives the
+     * timeout in ms its waits must use for this attempt.
+     */
+    public static <T> T idempotent(String action, LongFunction<T> body) {
+        Settings settings = settingsFor(action);
+        long start = System.nanoTime();
+        long backoffMs = settings.initialBackoffMs();
+        long failedSince = 0;
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = System.nanoTime();
+            long attemptTimeoutMs = attemptTimeout(settings, attempt, (attemptStart - start) / 1_000_000);
+            try {
+                T result = body.apply(attemptTimeoutMs);
+                if (attempt > 1) {
+                    recovered.computeIfAbsent(action, key -> new LongAdder()).increment();
+                    // Time lost to failed attempts and backoff before the one that succeeded
+                    TimingRegistry.record("retry", action, attemptStart - failedSince);
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (attempt == 1) {
+                    failedSince = attemptStart;
+                }
+                checkOverrun(action, attemptTimeoutMs, (System.nanoTime() - attemptStart) / 1_000_000);
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                if (!isRetryable(e) || attempt >= settings.maxAttempts()
+                        || elapsedMs + backoffMs > settings.budgetMs()) {
+                    if (attempt > 1) {
+                        exhausted.computeIfAbsent(action, key -> new LongAdder()).increment();
+                        TimingRegistry.record("retry", action, System.nanoTime() - failedSince);
+                    }
+                    throw e;
+                }
+                retries.computeIfAbsent(action, key -> new LongAdder()).increment();
+                sleep(backoffMs);
+                backoffMs = Math.min((long) (backoffMs * settings.multiplier()), settings.maxBackoffMs());
+            }
+        }
+    }
+
+    /**
+     * Run a repeatable action that returns nothing; the body receives the attempt timeout in ms
+     */
+    public static void idempotentRun(String action, LongConsumer body) {
+        idempotent(action, timeoutMs -> {
+            body.accept(timeoutMs);
+            return null;
+        });
+    }
+
+    /**
+     * Run an action that must not be repeated (e.g. submitting a form); never retried
+     */
+    public static void nonIdempotent(String action, Runnable body) {
+        body.run();
+    }
+
+    /**
+     * Get retry counts per action, e.g. "AddEmployeePage.navigateToPIM -> 2 retries, 1 recovered, 0 exhausted"
+     */
+    public static Map<String, String> getRetrySummary() {
+        Map<String, String> summary = new TreeMap<>();
+        List<String> actions = new ArrayList<>(retries.keySet());
+        actions.addAll(exhausted.keySet());
+        for (String action : actions) {
+            summary.put(action, count(retries, action) + " retries, " + count(recovered, action)
+                    + " recovered, " + count(exhausted, action) + " exhausted");
+        }
+        return summary;
+    }
+
+    /**
+     * Split the remaining budget evenly over the attempts left, never above the configured timeout
+     */
+    private static long attemptTimeout(Settings settings, int attempt, long elapsedMs) {
+        long remainingMs = Math.max(1, settings.budgetMs() - elapsedMs);
+        int attemptsLeft = Math.max(1, settings.maxAttempts() - attempt + 1);
+        return Math.min(ConfigReader.getTimeout(), remainingMs / attemptsLeft);
+    }
+
+    /**
+     * Report, once per action, an attempt that ran well past its timeout: its waits ignore the attempt
+     * timeout, so the budget runs out before any retry can happen
+     */
+    private static void checkOverrun(String action, long attemptTimeoutMs, long attemptMs) {
+        if (attemptMs > attemptTimeoutMs + OVERRUN_GRACE_MS && overrunWarnings.add(action)) {
+            System.err.printf("[RetryPolicy] %s attempt took %d ms, over its %d ms attempt timeout; "
+                    + "its waits should use the timeout passed to the retried body%n", action, attemptMs, attemptTimeoutMs);
+        }
+    }
+
+    private static long count(Map<String, LongAdder> counters, String action) {
+        LongAdder counter = counters.get(action);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Check the exception and its causes against the configured retryable types
+     */
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            for (Class<?> type : getRetryableTypes()) {
+                if (type.isInstance(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<Class<?>> getRetryableTypes() {
+        if (retryableTypes == null) {
+            List<Class<?>> types = new ArrayList<>();
+            for (String name : ConfigReader.getRetryableExceptions()) {
+                try {
+                    types.add(Class.forName(name));
+                } catch (ClassNotFoundException e) {
+                    throw new RuntimeException("Unknown retryable exception in config.json: " + name, e);
+                }
+            }
+            retryableTypes = types;
+        }
+        return retryableTypes;
+    }
+
+    private static Settings settingsFor(String action) {
+        JsonObject retry = ConfigReader.getSection("retry");
+        boolean enabled = ConfigReader.isRetryEnabled();
+        JsonObject override = retry.has("actions") && retry.getAsJsonObject("actions").has(action)
+                ? retry.getAsJsonObject("actions").getAsJsonObject(action) : new JsonObject();
+        return new Settings(
+                enabled ? getInt(override, retry, "maxAttempts", 3) : 1,
+                getInt(override, retry, "budgetMs", 10000),
+                getInt(override, retry, "initialBackoffMs", 200),
+                retry.has("multiplier") ? retry.get("multiplier").getAsDouble() : 2.0,
+                getInt(override, retry, "maxBackoffMs", 2000));
+    }
+
+    private static int getInt(JsonObject override, JsonObject defaults, String field, int fallback) {
+        if (override.has(field)) {
+            return override.get(field).getAsInt();
+        }
+        return defaults.has(field) ? defaults.get(field).getAsInt() : fallback;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while backing off", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.spurqlabs.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Caches authenticated Playwright storage state per credential key under target/,
+ * so scenarios that only need a logged-in user can skip the UI login form. State files are
+ * replaced atomically, and a file that cannot be parsed counts as a cache miss.
+ */
+public class SessionCache {
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    // Modification time of the state file each thread restored, so a rejected session only
+    // invalidates the file it actually used and not one another worker has just refreshed
+    private static final ThreadLocal<Map<String, FileTime>> restored = ThreadLocal.withInitial(ConcurrentHashMap::new);
+
+    /**
+     * Load a cached, unexpired session for the credential key into the current context
+     */
+    public static boolean restore(String credentialKey) {
+        if (!ConfigReader.isSessionCacheEnabled()) {
+            return false;
+        }
+        Path statePath = getStatePath(credentialKey);
+        try {
+            if (!Files.exists(statePath)) {
+                return false;
+            }
+            FileTime savedAt = Files.getLastModifiedTime(statePath);
+            Duration age = Duration.between(savedAt.toInstant(), Instant.now());
+            if (age.toMinutes() >= ConfigReader.getSessionTtlMinutes()) {
+                Files.deleteIfExists(statePath);
+                return false;
+            }
+            JsonParser.parseString(Files.readString(statePath)).getAsJsonObject();
+            PlaywrightDriver.loadStorageState(statePath);
+            restored.get().put(credentialKey, savedAt);
+            return true;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Save the current context's storage state for the credential key
+     */
+    public static void save(String credentialKey) {
+        if (!ConfigReader.isSessionCacheEnabled()) {
+            return;
+        }
+        Path statePath = getStatePath(credentialKey);
+        String state = PlaywrightDriver.getContext().storageState();
+        try {
+            // Written to a temp file and moved into place, so other workers never read a partial state
+            Files.createDirectories(statePath.getParent());
+            Path temp = Files.createTempFile(statePath.getParent(), statePath.getFileName().toString(), ".tmp");
+            Files.writeString(temp, state);
+            Files.move(temp, statePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save session for " + credentialKey + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop the cached session after the application rejected it
+     */
+    public static void invalidate(String credentialKey) {
+        Path statePath = getStatePath(credentialKey);
+        FileTime usedState = restored.get().remove(credentialKey);
+        try {
+            if (usedState == null || !Files.exists(statePath)
+                    || usedState.equals(Files.getLastModifiedTime(statePath))) {
+                Files.deleteIfExists(statePath);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to invalidate session for " + credentialKey + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lock guarding the real UI login for a credential key, so parallel workers log in only once
+     */
+    public static Object lockFor(String credentialKey) {
+        return locks.computeIfAbsent(credentialKey, key -> new Object());
+    }
+
+    /**
+     * Get storage state file for a credential key
+     */
+    public static Path getStatePath(String credentialKey) {
+        return Paths.get(ConfigReader.getSessionCacheDirectory(), credentialKey + ".json");
+    }
+}
@@ -1,64 +1,123 @@
 package com.spurqlabs.utils;
 
-import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.spurqlabs.models.Employee;
+import com.spurqlabs.models.LoginCredentials;
 
 /**
- * Utility class to read test data from JSON files
+ * Utility class to read test data from JSON files.
+ * Each file is parsed once into an immutable map of typed records and shared by all worker threads;
+ * with "testData.reloadOnChange" the file is re-parsed when its modification time changes.
  */
 public class TestDataReader {
-    
+    private static final String DATA_DIRECTORY = "src/test/resources/data/";
+    private static final Gson GSON = new Gson();
+    private static final Map<String, DataSet<?>> cache = new ConcurrentHashMap<>();
+
     /**
-     * Read test data from JSON file
+     * Parsed records of one data file, keyed by entry name
      */
-    public static JsonObject readTestData(String fileName) {
-        try {
-            String filePath = "src/test/resources/data/" + fileName;
-            Gson gson = new Gson();
-            FileReader reader = new FileReader(filePath);
-            JsonObject data = gson.fromJson(reader, JsonObject.class);
-            reader.close();
-            return data;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to read test data from " + fileName + ": " + e.getMessage());
+    private record DataSet<T>(long modifiedMillis, Map<String, T> records) {
+    }
+
+    /**
+     * Get all records of a data file, parsed into the given type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Map<String, T> getDataSet(String fileName, Class<T> type) {
+        String cacheKey = fileName + "#" + type.getName();
+        DataSet<?> dataSet = cache.get(cacheKey);
+        if (dataSet == null || (ConfigReader.isTestDataReloadEnabled() && isStale(fileName, dataSet))) {
+            dataSet = cache.compute(cacheKey, (key, current) ->
+                    current != null && !isStale(fileName, current) ? current : load(fileName, type));
         }
+        return (Map<String, T>) dataSet.records();
     }
 
     /**
      * Get login credentials for valid user
      */
-    public static JsonObject getValidUserCredentials() {
-        JsonObject loginData = readTestData("loginData.json");
-        return loginData.getAsJsonObject("validUser");
+    public static LoginCredentials getValidUserCredentials() {
+        return getLoginData("validUser");
     }
 
     /**
      * Get login credentials for invalid user
      */
-    public static JsonObject getInvalidUserCredentials() {
-        JsonObject loginData = readTestData("loginData.json");
-        return loginData.getAsJsonObject("invalidUser");
+    public static LoginCredentials getInvalidUserCredentials() {
+        return getLoginData("invalidUser");
     }
 
     /**
      * Get login data by key
      */
-    public static java.util.Map<String, String> getLoginData(String key) {
-        JsonObject loginData = readTestData("loginData.json");
-        JsonObject userData = loginData.getAsJsonObject(key);
-        java.util.Map<String, String> result = new java.util.HashMap<>();
-        result.put("username", userData.get("username").getAsString());
-        result.put("password", userData.get("password").getAsString());
-        return result;
+    public static LoginCredentials getLoginData(String key) {
+        return getRecord("loginData.json", LoginCredentials.class, key);
     }
 
     /**
      * Get employee data by key
      */
-    public static JsonObject getEmployeeData(String key) {
-        JsonObject employeeData = readTestData("employeeData.json");
-        return employeeData.getAsJsonObject(key);
+    public static Employee getEmployeeData(String key) {
+        Employee employee = getRecord("employeeData.json", Employee.class, key);
+        return new Employee(UniqueDataGenerator.resolve(employee.firstName()),
+                UniqueDataGenerator.resolve(employee.middleName()),
+                UniqueDataGenerator.resolve(employee.lastName()),
+                UniqueDataGenerator.resolve(employee.employeeId()));
+    }
+
+    /**
+     * Get a single record, failing clearly when the key is missing
+     */
+    private static <T> T getRecord(String fileName, Class<T> type, String key) {
+        Map<String, T> records = getDataSet(fileName, type);
+        T record = records.get(key);
+        if (record == null) {
+            throw new RuntimeException(records.containsKey(key)
+                    ? "Entry '" + key + "' in test data " + fileName + " is null"
+                    : "No entry '" + key + "' in test data " + fileName);
+        }
+        return record;
+    }
+
+    /**
+     * Parse a data file into a read-only map of records in file order; JSON null records stay null
+     */
+    private static <T> DataSet<T> load(String fileName, Class<T> type) {
+        Path filePath = Paths.get(DATA_DIRECTORY, fileName);
+        try (Reader reader = Files.newBufferedReader(filePath)) {
+            long modifiedMillis = Files.getLastModifiedTime(filePath).toMillis();
+            JsonObject data = GSON.fromJson(reader, JsonObject.class);
+            Map<String, T> records = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : data.entrySet()) {
+                records.put(entry.getKey(), GSON.fromJson(entry.getValue(), type));
+            }
+            return new DataSet<>(modifiedMillis, Collections.unmodifiableMap(records));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read test data from " + fileName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check if the data file changed on disk since it was parsed
+     */
+    private static boolean isStale(String fileName, DataSet<?> dataSet) {
+        try {
+            return Files.getLastModifiedTime(Paths.get(DATA_DIRECTORY, fileName)).toMillis() != dataSet.modifiedMillis();
+        } catch (IOException e) {
+            return false;
+        }
     }
 }
@@ -0,0 +1,54 @@
+package com.spurqlabs.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry of latency histograms, keyed by category ("step", "hook", "action",
+ * "wait", "driver") and name. Page objects time their actions through {@link #time}.
+ */
+public class TimingRegistry {
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Record a duration for a category and name
+     */
+    public static void record(String category, String name, long nanos) {
+        histograms.computeIfAbsent(category + "|" + name, key -> new LatencyHistogram()).recordNanos(nanos);
+        FailureRecorder.note(category + " " + name + " " + nanos / 1_000_000 + " ms");
+    }
+
+    /**
+     * Time a page-object action that returns a value
+     */
+    public static <T> T time(String action, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            FailureRecorder.note("action " + action + " failed: " + e.getMessage());
+            throw e;
+        } finally {
+            record("action", action, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Time a page-object action
+     */
+    public static void time(String action, Runnable body) {
+        time(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get histograms sorted by "category|name"
+     */
+    public static Map<String, LatencyHistogram> snapshot() {
+        return new TreeMap<>(histograms);
+    }
+}
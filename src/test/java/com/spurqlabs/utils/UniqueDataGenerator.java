@@ -0,0 +1,166 @@
+package com.spurqlabs.utils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates readable names and employee IDs that stay unique across worker threads, parallel JVMs
+ * and repeated runs. Each JVM takes its own range from its pid and start time (or -Dunique.worker,
+ * which is combined with the start time so pinned shards still get a new range every run), and values
+ * within the range come from a lock-free counter. Data tables and test data use placeholders such as
+ * ${unique.firstName} or ${unique.lastName:Doe}; the same placeholder resolves to the same value until
+ * the next scenario starts. When HAR recording or replay is on, a scenario draws from a seed stored next
+ * to its recording instead, so replayed POST bodies match the recorded ones.
+ */
+public class UniqueDataGenerator {
+    // OrangeHRM field limits: names 30 characters, Employee Id 10
+    public static final int MAX_NAME_LENGTH = 30;
+    public static final int MAX_EMPLOYEE_ID_LENGTH = 10;
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{unique\\.(\\w+)(?::([^}]*))?}");
+    private static final String[] FIRST_NAMES = { "Alex", "Maya", "Omar", "Lena", "Ravi", "Nora", "Ivan", "Zoe" };
+    private static final String[] LAST_NAMES = { "Novak", "Reyes", "Okafor", "Lindqvist", "Tanaka", "Moreau" };
+    // Names carry the range as 6 letters, employee IDs as 5 base-36 digits followed by a 4-digit counter
+    private static final long NAME_RANGES = 26L * 26 * 26 * 26 * 26 * 26;
+    private static final long ID_RANGES = 36L * 36 * 36 * 36 * 36;
+    // Pinned workers (shard indexes) below this get distinct ranges within the same run
+    private static final int PINNED_WORKERS = 64;
+
+    private static final long worker = resolveWorker();
+    private static final AtomicLong counter = new AtomicLong();
+    private static final ThreadLocal<Map<String, String>> scenarioValues = ThreadLocal.withInitial(HashMap::new);
+    // Range and counter of the current scenario when it is seeded from its HAR recording
+    private static final ThreadLocal<Seeded> seeded = new ThreadLocal<>();
+
+    private record Seeded(long range, AtomicLong counter) {
+    }
+
+    /**
+     * Forget the current thread's placeholder values; called when a scenario starts. In HAR record mode a
+     * new seed is stored with the scenario's recording, in replay mode the stored seed is reused.
+     */
+    public static void resetScenario(String scenarioName) {
+        scenarioValues.get().clear();
+        seeded.remove();
+        OptionalLong seed = switch (ConfigReader.getHarMode()) {
+            case "record" -> OptionalLong.of(HarArchive.writeSeed(scenarioName,
+                    ThreadLocalRandom.current().nextLong(NAME_RANGES)));
+            case "replay" -> HarArchive.readSeed(scenarioName);
+            default -> OptionalLong.empty();
+        };
+        seed.ifPresent(range -> seeded.set(new Seeded(range, new AtomicLong())));
+    }
+
+    /**
+     * Next unique letters-only token, e.g. "Kqzfabad": six letters for the range, then the counter
+     */
+    public static String nextToken() {
+        String token = toLetters(range(), 6) + toLetters(nextCount(), 2);
+        return Character.toUpperCase(token.charAt(0)) + token.substring(1);
+    }
+
+    /**
+     * Unique letters-only name such as "DoeKqzfabad"; the base is shortened so the result fits the name limit
+     */
+    public static String uniqueName(String base) {
+        String token = nextToken();
+        int maxBase = MAX_NAME_LENGTH - token.length();
+        String trimmed = base.length() > maxBase ? base.substring(0, maxBase) : base;
+        return trimmed + token;
+    }
+
+    /**
+     * Unique employee ID of at most 10 characters, e.g. "T3KQZ7001Z"
+     */
+    public static String uniqueEmployeeId() {
+        String id = "T" + pad(Long.toString(range() % ID_RANGES, 36), 5) + pad(Long.toString(nextCount(), 36), 4);
+        return id.substring(0, MAX_EMPLOYEE_ID_LENGTH).toUpperCase();
+    }
+
+    /**
+     * Replace ${unique.field} and ${unique.field:base} placeholders with the scenario's values
+     */
+    public static String resolve(String value) {
+        if (value == null || !value.contains("${unique.")) {
+            return value;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            // Keyed by the whole placeholder so ${unique.lastName:Doe} and ${unique.lastName:Smith} differ
+            String replacement = scenarioValues.get().computeIfAbsent(matcher.group(),
+                    placeholder -> generate(matcher.group(1), matcher.group(2)));
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    /**
+     * Resolve placeholders in every value of a data table map
+     */
+    public static Map<String, String> resolve(Map<String, String> values) {
+        Map<String, String> resolved = new LinkedHashMap<>();
+        values.forEach((key, value) -> resolved.put(key, resolve(value)));
+        return resolved;
+    }
+
+    private static long range() {
+        Seeded scenario = seeded.get();
+        return scenario != null ? scenario.range() : worker;
+    }
+
+    private static long nextCount() {
+        Seeded scenario = seeded.get();
+        return (scenario != null ? scenario.counter() : counter).getAndIncrement();
+    }
+
+    private static String generate(String field, String base) {
+        Seeded scenario = seeded.get();
+        long pick = (scenario != null ? scenario.counter() : counter).get();
+        return switch (field) {
+            case "employeeId" -> uniqueEmployeeId();
+            case "firstName", "middleName" -> uniqueName(base != null ? base : FIRST_NAMES[(int) (pick % FIRST_NAMES.length)]);
+            case "lastName" -> uniqueName(base != null ? base : LAST_NAMES[(int) (pick % LAST_NAMES.length)]);
+            default -> uniqueName(base != null ? base : field);
+        };
+    }
+
+    /**
+     * Pick this JVM's range from the start time and either -Dunique.worker (e.g. the shard index) or the
+     * pid. Pinned workers of one run get adjacent ranges; a later run starts from a different block.
+     */
+    private static long resolveWorker() {
+        long startSeconds = System.currentTimeMillis() / 1000;
+        String configured = System.getProperty("unique.worker");
+        if (configured != null) {
+            return Math.floorMod(startSeconds * PINNED_WORKERS + Long.parseLong(configured) % PINNED_WORKERS, NAME_RANGES);
+        }
+        return Math.floorMod(ProcessHandle.current().pid() * 7919 + startSeconds * PINNED_WORKERS, NAME_RANGES);
+    }
+
+    /**
+     * Base-26 lowercase letters, left-padded with 'a' to the minimum length
+     */
+    private static String toLetters(long value, int minLength) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        while (letters.length() < minLength) {
+            letters.append('a');
+        }
+        return letters.reverse().toString();
+    }
+
+    private static String pad(String value, int length) {
+        return value.length() >= length ? value.substring(value.length() - length) : "0".repeat(length - value.length()) + value;
+    }
+}
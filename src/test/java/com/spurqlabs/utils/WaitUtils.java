@@ -0,0 +1,74 @@
+package com.spurqlabs.utils;
+
+import java.util.function.Supplier;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+/**
+ * Event-driven waits on concrete page signals (URL, XHR responses, toasts)
+ * used by page objects instead of fixed sleeps. Every wait records how long it actually took
+ * in the "wait" category of {@link TimingRegistry}.
+ */
+public class WaitUtils {
+
+    /**
+     * Wait until the page URL matches the glob pattern
+     */
+    public static void waitForUrl(Page page, String urlGlob) {
+        waitForUrl(page, urlGlob, ConfigReader.getTimeout());
+    }
+
+    /**
+     * Wait until the page URL matches the glob pattern, giving up after the timeout
+     */
+    public static void waitForUrl(Page page, String urlGlob, double timeoutMs) {
+        timed("url " + urlGlob, () -> {
+            page.waitForURL(urlGlob, new Page.WaitForURLOptions().setTimeout(timeoutMs));
+            return null;
+        });
+    }
+
+    /**
+     * Run an action and wait for the XHR whose URL contains the fragment to complete
+     */
+    public static Response waitForResponse(Page page, String urlFragment, Runnable action) {
+        return waitForResponse(page, urlFragment, action, ConfigReader.getTimeout());
+    }
+
+    /**
+     * Run an action and wait for the XHR whose URL contains the fragment, giving up after the timeout
+     */
+    public static Response waitForResponse(Page page, String urlFragment, Runnable action, double timeoutMs) {
+        return timed("response " + urlFragment, () -> page.waitForResponse(
+                response -> response.url().contains(urlFragment),
+                new Page.WaitForResponseOptions().setTimeout(timeoutMs),
+                action));
+    }
+
+    /**
+     * Wait for a toast notification to become visible
+     */
+    public static void waitForToast(Page page, String toastSelector, int timeoutMs) {
+        timed("toast " + toastSelector, () -> {
+            page.locator(toastSelector).first().waitFor(new Locator.WaitForOptions()
+                    .setState(WaitForSelectorState.VISIBLE)
+                    .setTimeout(timeoutMs));
+            return null;
+        });
+    }
+
+    /**
+     * Execute a wait and record its duration
+     */
+    private static <T> T timed(String name, Supplier<T> wait) {
+        long start = System.nanoTime();
+        try {
+            return wait.get();
+        } finally {
+            TimingRegistry.record("wait", name, System.nanoTime() - start);
+        }
+    }
+}
@@ -11,10 +11,10 @@ Feature: Add Employee to OrangeHRM PIM
   Scenario: Create employee with all fields
     When I click the Add button
     And I enter the following employee details:
-      | field      | value      |
-      | firstName  | John       |
-      | middleName | Michael    |
-      | lastName   | Doe        |
+      | field      | value                  |
+      | firstName  | John                   |
+      | middleName | Michael                |
+      | lastName   | ${unique.lastName:Doe} |
     And I click Save
     Then I should see the success message
     And the employee should appear in the employee list
@@ -23,26 +23,28 @@ Feature: Add Employee to OrangeHRM PIM
   Scenario: Create employee with minimum required fields
     When I click the Add button
     And I enter the following employee details:
-      | field     | value |
-      | firstName | Jane  |
-      | lastName  | Smith |
+      | field     | value                    |
+      | firstName | Jane                     |
+      | lastName  | ${unique.lastName:Smith} |
     And I click Save
     Then I should see the success message
     And the employee should appear in the employee list
+    And searching the PIM employee list by name should find the employee
 
   @positive @ORAN-TC-004
   Scenario: Create employee with custom Employee ID
     When I click the Add button
     And I clear the Employee ID field
     And I enter the following employee details:
-      | field      | value     |
-      | firstName  | Robert    |
-      | middleName | Edward    |
-      | lastName   | Johnson   |
-      | employeeId | EMP-12345 |
+      | field      | value                      |
+      | firstName  | Robert                     |
+      | middleName | Edward                     |
+      | lastName   | ${unique.lastName:Johnson} |
+      | employeeId | ${unique.employeeId}       |
     And I click Save
     Then I should see the success message
-    And the employee details should show Employee ID as "EMP-12345"
+    And the employee details should show Employee ID as "${unique.employeeId}"
+    And searching the PIM employee list by Employee ID "${unique.employeeId}" should find the employee
 
   @negative @ORAN-TC-005
   Scenario: Validation error for missing First Name
@@ -0,0 +1,15 @@
+Feature: Employee API client
+  As a test author
+  I want to set up and verify employees through the PIM REST API
+  So that steps which do not test the UI avoid slow page round-trips
+
+  Background:
+    Given the employee API points at the local stub server
+
+  @smoke @api
+  Scenario: Create, look up and delete an employee through the API
+    When I create employee "Api" "Tester" with Employee ID "API-001" through the API
+    Then looking up "Api Tester" through the API should return Employee ID "API-001"
+    And looking up "API-001" through the API should return Employee ID "API-001"
+    When I delete the employee through the API
+    Then looking up "Api Tester" through the API should return no employees
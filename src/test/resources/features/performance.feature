@@ -0,0 +1,24 @@
+Feature: PIM performance budgets
+  As a QA engineer
+  I want page loads and saves measured against budgets and a baseline
+  So that application slowdowns are caught, not just functional breaks
+
+  Background:
+    Given I am logged in as an HR administrator
+    And I navigate to PIM Employee List
+
+  @performance
+  Scenario: PIM employee list loads within budget
+    Then the PIM employee list should load within 1500 ms
+    And the employee list Largest Contentful Paint should be within 2500 ms
+
+  @performance
+  Scenario: Saving an employee completes within budget
+    When I click the Add button
+    And I enter the following employee details:
+      | field     | value                     |
+      | firstName | Perf                      |
+      | lastName  | ${unique.lastName:Budget} |
+    And I click Save
+    Then I should see the success message
+    And saving the employee should complete within 2000 ms